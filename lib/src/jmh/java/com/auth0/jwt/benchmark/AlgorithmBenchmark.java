@@ -0,0 +1,185 @@
+package com.auth0.jwt.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.JWTVerifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a JMH benchmark for signing, verifying and decoding JWTs with every supported algorithm,
+ * for a small and a large payload, on a single thread. {@link ConcurrentAlgorithmBenchmark} runs the same
+ * benchmarks on all the available cores.
+ * <p>
+ * Both the throughput and the average time are measured. To also measure the allocation rate, run it with
+ * the GC profiler, optionally narrowing it down to some of the parameters:
+ * <pre>
+ * ./gradlew runJMH --args="AlgorithmBenchmark -prof gc -p algorithm=HS256,RS256 -p payload=small"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AlgorithmBenchmark {
+
+    @Param({"HS256", "HS384", "HS512", "RS256", "RS384", "RS512", "PS256", "PS384", "PS512",
+            "ES256", "ES384", "ES512"})
+    public String algorithm;
+
+    @Param({"small", "large"})
+    public String payload;
+
+    private Algorithm signingAlgorithm;
+    private Map<String, Object> claims;
+    private String token;
+    private JWTVerifier verifier;
+
+    @Setup
+    public void setup() throws GeneralSecurityException {
+        signingAlgorithm = createAlgorithm(algorithm);
+        claims = "large".equals(payload) ? largePayload() : smallPayload();
+        token = JWT.create().withPayload(claims).sign(signingAlgorithm);
+        verifier = JWT.require(signingAlgorithm).withIssuer("auth0").build();
+    }
+
+    @Benchmark
+    public void sign(Blackhole blackhole) {
+        blackhole.consume(JWT.create().withPayload(claims).sign(signingAlgorithm));
+    }
+
+    @Benchmark
+    public void verify(Blackhole blackhole) {
+        blackhole.consume(verifier.verify(token));
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        blackhole.consume(JWT.decode(token));
+    }
+
+    private static Map<String, Object> smallPayload() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("iss", "auth0");
+        claims.put("sub", "1234567890");
+        claims.put("iat", now.getEpochSecond());
+        claims.put("exp", now.plus(1, ChronoUnit.DAYS).getEpochSecond());
+        return claims;
+    }
+
+    private static Map<String, Object> largePayload() {
+        Map<String, Object> claims = smallPayload();
+        claims.put("aud", Arrays.asList("https://api.example.com", "https://admin.example.com"));
+        List<String> scopes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            scopes.add("resource-" + i + ":read");
+        }
+        claims.put("scope", String.join(" ", scopes));
+        claims.put("permissions", scopes);
+        for (int i = 0; i < 50; i++) {
+            Map<String, Object> claim = new HashMap<>();
+            claim.put("id", i);
+            claim.put("name", "claim-" + i);
+            claim.put("enabled", i % 2 == 0);
+            claims.put("https://example.com/claim-" + i, claim);
+        }
+        return claims;
+    }
+
+    private static Algorithm createAlgorithm(String name) throws GeneralSecurityException {
+        switch (name) {
+            case "HS256":
+                return Algorithm.HMAC256("a-secret-of-at-least-32-bytes-for-hs256");
+            case "HS384":
+                return Algorithm.HMAC384("a-secret-of-at-least-48-bytes-for-hs384-benchmarks");
+            case "HS512":
+                return Algorithm.HMAC512("a-secret-of-at-least-64-bytes-for-hs512-benchmarks-of-java-jwt-lib");
+            case "RS256":
+            case "RS384":
+            case "RS512":
+            case "PS256":
+            case "PS384":
+            case "PS512":
+                KeyPair rsa = generateKeyPair("RSA", null);
+                return createRSAAlgorithm(name, (RSAPublicKey) rsa.getPublic(), (RSAPrivateKey) rsa.getPrivate());
+            case "ES256":
+                return createECDSAAlgorithm(name, generateKeyPair("EC", "secp256r1"));
+            case "ES384":
+                return createECDSAAlgorithm(name, generateKeyPair("EC", "secp384r1"));
+            case "ES512":
+                return createECDSAAlgorithm(name, generateKeyPair("EC", "secp521r1"));
+            default:
+                throw new IllegalArgumentException("Unknown algorithm " + name);
+        }
+    }
+
+    private static Algorithm createRSAAlgorithm(String name, RSAPublicKey publicKey, RSAPrivateKey privateKey) {
+        switch (name) {
+            case "RS256":
+                return Algorithm.RSA256(publicKey, privateKey);
+            case "RS384":
+                return Algorithm.RSA384(publicKey, privateKey);
+            case "RS512":
+                return Algorithm.RSA512(publicKey, privateKey);
+            case "PS256":
+                return Algorithm.RSA256PSS(publicKey, privateKey);
+            case "PS384":
+                return Algorithm.RSA384PSS(publicKey, privateKey);
+            default:
+                return Algorithm.RSA512PSS(publicKey, privateKey);
+        }
+    }
+
+    private static Algorithm createECDSAAlgorithm(String name, KeyPair keyPair) {
+        ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+        ECPrivateKey privateKey = (ECPrivateKey) keyPair.getPrivate();
+        switch (name) {
+            case "ES256":
+                return Algorithm.ECDSA256(publicKey, privateKey);
+            case "ES384":
+                return Algorithm.ECDSA384(publicKey, privateKey);
+            default:
+                return Algorithm.ECDSA512(publicKey, privateKey);
+        }
+    }
+
+    private static KeyPair generateKeyPair(String type, String curve) throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(type);
+        if (curve != null) {
+            generator.initialize(new ECGenParameterSpec(curve));
+        } else {
+            generator.initialize(2048);
+        }
+        return generator.generateKeyPair();
+    }
+}
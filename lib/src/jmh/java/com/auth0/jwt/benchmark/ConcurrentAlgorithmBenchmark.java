@@ -0,0 +1,12 @@
+package com.auth0.jwt.benchmark;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * This class is a JMH benchmark running the {@link AlgorithmBenchmark} benchmarks on all the available cores,
+ * sharing the same algorithm and verifier instances, to measure how signing, verifying and decoding JWTs scale
+ * under contention.
+ */
+@Threads(Threads.MAX)
+public class ConcurrentAlgorithmBenchmark extends AlgorithmBenchmark {
+}
@@ -0,0 +1,51 @@
+package com.auth0.jwt;
+
+import com.auth0.jwt.impl.ExpectedCheckHolder;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compiled check of the Audience claim, which must contain all or any of the expected audiences. The expected
+ * audiences are kept in a hash set, so the token's audience is scanned only once.
+ * <p>
+ * This class is thread-safe.
+ */
+final class AudienceClaimCheck extends CompiledClaimCheck {
+
+    private final Set<String> audience;
+    private final boolean shouldContainAll;
+
+    AudienceClaimCheck(ExpectedCheckHolder check, Collection<String> audience, boolean shouldContainAll) {
+        super(check);
+        this.audience = audience == null ? null : new HashSet<>(audience);
+        this.shouldContainAll = shouldContainAll;
+    }
+
+    @Override
+    boolean matches(DecodedJWT decodedJWT) {
+        if (audience == null) {
+            return false;
+        }
+        List<String> actual = decodedJWT.getAudience();
+        if (actual == null) {
+            return false;
+        }
+        int found = 0;
+        for (int i = 0; i < actual.size(); i++) {
+            String value = actual.get(i);
+            if (audience.contains(value)) {
+                if (!shouldContainAll) {
+                    return true;
+                }
+                if (actual.indexOf(value) == i) {
+                    found++;
+                }
+            }
+        }
+        return shouldContainAll && found == audience.size();
+    }
+}
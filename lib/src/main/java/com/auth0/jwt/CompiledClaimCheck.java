@@ -0,0 +1,40 @@
+package com.auth0.jwt;
+
+import com.auth0.jwt.impl.ExpectedCheckHolder;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+/**
+ * Check of a registered claim that is compiled when the {@link JWTVerifier} is built. It reads the claim with the
+ * Payload's getters and compares it against values prepared up front, which is enough to accept most tokens.
+ * When the fast path can't accept the token, the regular check is run instead, so that the outcome and the
+ * exceptions thrown are exactly the ones of the regular check.
+ * <p>
+ * This class is thread-safe.
+ */
+abstract class CompiledClaimCheck implements ExpectedCheckHolder {
+
+    private final ExpectedCheckHolder check;
+
+    CompiledClaimCheck(ExpectedCheckHolder check) {
+        this.check = check;
+    }
+
+    @Override
+    public final String getClaimName() {
+        return check.getClaimName();
+    }
+
+    @Override
+    public final boolean verify(Claim claim, DecodedJWT decodedJWT) {
+        return check.verify(claim, decodedJWT);
+    }
+
+    /**
+     * Whether the claim of the given JWT is known to pass the check without reading it as a {@link Claim}.
+     *
+     * @param decodedJWT the JWT on which verification is done.
+     * @return true if the check passes, false if the regular check must be run to find out.
+     */
+    abstract boolean matches(DecodedJWT decodedJWT);
+}
@@ -6,6 +6,8 @@ import com.auth0.jwt.impl.JWTParser;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.Verification;
 
+import java.nio.ByteBuffer;
+
 /**
  * Exposes all the JWT functionalities.
  */
@@ -37,6 +39,38 @@ public class JWT {
         return new JWTDecoder(parser, token);
     }
 
+    /**
+     * Decode a given Json Web Token held as ASCII bytes, such as the value of a request header
+     * read straight from the network.
+     * <p>
+     * Note that this method <b>doesn't verify the token's signature!</b>
+     * Use it only if you trust the token or if you have already verified it.
+     *
+     * @param token with jwt format as ASCII bytes.
+     * @return a decoded JWT.
+     * @throws JWTDecodeException if any part of the token contained an invalid jwt
+     *                            or JSON format of each of the jwt parts.
+     */
+    public DecodedJWT decodeJwt(byte[] token) throws JWTDecodeException {
+        return new JWTDecoder(parser, token);
+    }
+
+    /**
+     * Decode a given Json Web Token held as ASCII bytes between the buffer's position and its limit.
+     * The buffer's position is not modified and the buffer is not referenced by the returned instance.
+     * <p>
+     * Note that this method <b>doesn't verify the token's signature!</b>
+     * Use it only if you trust the token or if you have already verified it.
+     *
+     * @param token with jwt format as ASCII bytes.
+     * @return a decoded JWT.
+     * @throws JWTDecodeException if any part of the token contained an invalid jwt
+     *                            or JSON format of each of the jwt parts.
+     */
+    public DecodedJWT decodeJwt(ByteBuffer token) throws JWTDecodeException {
+        return new JWTDecoder(parser, token);
+    }
+
     /**
      * Decode a given Json Web Token.
      * <p>
@@ -52,6 +86,54 @@ public class JWT {
         return new JWTDecoder(token);
     }
 
+    /**
+     * Decode a given Json Web Token, deferring the Payload's decoding until any of its claims is first requested.
+     * Useful when only the Header is needed to route or reject the token, for example by its Key Id.
+     * <p>
+     * Note that this method <b>doesn't verify the token's signature!</b>
+     * Use it only if you trust the token or if you have already verified it.
+     *
+     * @param token with jwt format as string.
+     * @return a decoded JWT whose Payload getters may throw {@link JWTDecodeException} if the Payload
+     *         contained an invalid JSON format.
+     * @throws JWTDecodeException if the token didn't have a valid jwt format or the Header
+     *                            contained an invalid JSON format.
+     */
+    public static DecodedJWT decodeLazily(String token) throws JWTDecodeException {
+        return new JWTDecoder(new JWTParser(), token, true);
+    }
+
+    /**
+     * Decode a given Json Web Token held as ASCII bytes.
+     * <p>
+     * Note that this method <b>doesn't verify the token's signature!</b>
+     * Use it only if you trust the token or if you have already verified it.
+     *
+     * @param token with jwt format as ASCII bytes.
+     * @return a decoded JWT.
+     * @throws JWTDecodeException if any part of the token contained an invalid jwt
+     *                            or JSON format of each of the jwt parts.
+     */
+    public static DecodedJWT decode(byte[] token) throws JWTDecodeException {
+        return new JWTDecoder(new JWTParser(), token);
+    }
+
+    /**
+     * Decode a given Json Web Token held as ASCII bytes between the buffer's position and its limit.
+     * The buffer's position is not modified and the buffer is not referenced by the returned instance.
+     * <p>
+     * Note that this method <b>doesn't verify the token's signature!</b>
+     * Use it only if you trust the token or if you have already verified it.
+     *
+     * @param token with jwt format as ASCII bytes.
+     * @return a decoded JWT.
+     * @throws JWTDecodeException if any part of the token contained an invalid jwt
+     *                            or JSON format of each of the jwt parts.
+     */
+    public static DecodedJWT decode(ByteBuffer token) throws JWTDecodeException {
+        return new JWTDecoder(new JWTParser(), token);
+    }
+
     /**
      * Returns a {@link Verification} builder with the algorithm to be used to validate token signature.
      *
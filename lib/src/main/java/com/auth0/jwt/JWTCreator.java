@@ -2,7 +2,6 @@ package com.auth0.jwt;
 
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
-import com.auth0.jwt.exceptions.SignatureGenerationException;
 import com.auth0.jwt.impl.*;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.MapperFeature;
@@ -10,10 +9,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * The JWTCreator class holds the sign method to generate a complete JWT (with Signature)
@@ -25,16 +34,24 @@ import java.util.Map.Entry;
 public final class JWTCreator {
 
     private final Algorithm algorithm;
-    private final String headerJson;
-    private final String payloadJson;
+    private final HeaderClaimsHolder header;
+    private final PayloadClaimsHolder payload;
+
+    private static final int BATCH_CHUNK_SIZE = 64;
+    private static final int MAX_PENDING_CHUNKS = 64;
+
+    private static final String INVALID_CLAIMS_MESSAGE = "Claim values must only be of types Map, List, Boolean, "
+            + "Integer, Long, Double, String, Date, Instant, and Null";
 
     private static final ObjectMapper mapper;
     private static final SimpleModule module;
+    private static final PayloadSerializer payloadSerializer = new PayloadSerializer();
+    private static final HeaderSerializer headerSerializer = new HeaderSerializer();
 
     static {
         module = new SimpleModule();
-        module.addSerializer(PayloadClaimsHolder.class, new PayloadSerializer());
-        module.addSerializer(HeaderClaimsHolder.class, new HeaderSerializer());
+        module.addSerializer(PayloadClaimsHolder.class, payloadSerializer);
+        module.addSerializer(HeaderClaimsHolder.class, headerSerializer);
 
         mapper = JsonMapper.builder()
                 .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
@@ -42,15 +59,10 @@ public final class JWTCreator {
                 .registerModule(module);
     }
 
-    private JWTCreator(Algorithm algorithm, Map<String, Object> headerClaims, Map<String, Object> payloadClaims)
-            throws JWTCreationException {
+    private JWTCreator(Algorithm algorithm, Map<String, Object> headerClaims, Map<String, Object> payloadClaims) {
         this.algorithm = algorithm;
-        try {
-            headerJson = mapper.writeValueAsString(new HeaderClaimsHolder(headerClaims));
-            payloadJson = mapper.writeValueAsString(new PayloadClaimsHolder(payloadClaims));
-        } catch (JsonProcessingException e) {
-            throw new JWTCreationException("Some of the Claims couldn't be converted to a valid JSON format.", e);
-        }
+        this.header = new HeaderClaimsHolder(headerClaims);
+        this.payload = new PayloadClaimsHolder(payloadClaims);
     }
 
 
@@ -476,8 +488,7 @@ public final class JWTCreator {
             }
 
             if (!validatePayload(payloadClaims)) {
-                throw new IllegalArgumentException("Claim values must only be of types Map, List, Boolean, Integer, "
-                        + "Long, Double, String, Date, Instant, and Null");
+                throw new IllegalArgumentException(INVALID_CLAIMS_MESSAGE);
             }
 
             // add claims only after validating all claims so as not to corrupt the claims map of this builder
@@ -515,7 +526,27 @@ public final class JWTCreator {
             }
         }
 
-        private boolean validatePayload(Map<String, ?> payload) {
+        /**
+         * Creates a reusable template that signs tokens with the given algorithm, the Header and the Payload claims
+         * configured so far. The Header and these claims are serialized once, when the template is created.
+         *
+         * @param algorithm used to sign the JWTs
+         * @return a new template.
+         * @throws IllegalArgumentException if the provided algorithm is null.
+         * @throws JWTCreationException     if the claims could not be converted to a valid JSON.
+         * @see Template
+         */
+        public Template template(Algorithm algorithm) throws IllegalArgumentException, JWTCreationException {
+            if (algorithm == null) {
+                throw new IllegalArgumentException("The Algorithm cannot be null.");
+            }
+            Map<String, Object> header = new LinkedHashMap<>(headerClaims);
+            header.put(HeaderParams.ALGORITHM, algorithm.getName());
+            header.putIfAbsent(HeaderParams.TYPE, "JWT");
+            return new Template(algorithm, header, new LinkedHashMap<>(payloadClaims));
+        }
+
+        private static boolean validatePayload(Map<String, ?> payload) {
             for (Map.Entry<String, ?> entry : payload.entrySet()) {
                 String key = entry.getKey();
                 assertNonNull(key);
@@ -591,6 +622,30 @@ public final class JWTCreator {
          *                                  or there was a problem with the signing key.
          */
         public String sign(Algorithm algorithm) throws IllegalArgumentException, JWTCreationException {
+            return creator(algorithm).sign();
+        }
+
+        /**
+         * Creates a new JWT, signs it with the given algorithm and writes it into the given buffer as ASCII bytes,
+         * without creating a String.
+         *
+         * @param algorithm used to sign the JWT
+         * @param target    the buffer to write the JWT into, from its current position.
+         * @return the number of bytes written.
+         * @throws IllegalArgumentException if the provided algorithm or buffer is null.
+         * @throws JWTCreationException     if the claims could not be converted to a valid JSON
+         *                                  or there was a problem with the signing key.
+         * @throws BufferOverflowException  if the JWT doesn't fit in the buffer's remaining space. Nothing is
+         *                                  written in that case.
+         */
+        public int sign(Algorithm algorithm, ByteBuffer target)
+                throws IllegalArgumentException, JWTCreationException, BufferOverflowException {
+            JWTCreator creator = creator(algorithm);
+            assertNonNullTarget(target);
+            return creator.sign(target);
+        }
+
+        private JWTCreator creator(Algorithm algorithm) throws IllegalArgumentException {
             if (algorithm == null) {
                 throw new IllegalArgumentException("The Algorithm cannot be null.");
             }
@@ -602,10 +657,10 @@ public final class JWTCreator {
             if (signingKeyId != null) {
                 withKeyId(signingKeyId);
             }
-            return new JWTCreator(algorithm, headerClaims, payloadClaims).sign();
+            return new JWTCreator(algorithm, headerClaims, payloadClaims);
         }
 
-        private void assertNonNull(String name) {
+        private static void assertNonNull(String name) {
             if (name == null) {
                 throw new IllegalArgumentException("The Custom Claim's name can't be null.");
             }
@@ -616,16 +671,440 @@ public final class JWTCreator {
         }
     }
 
-    private String sign() throws SignatureGenerationException {
-        String header = Base64.getUrlEncoder().withoutPadding()
-                .encodeToString(headerJson.getBytes(StandardCharsets.UTF_8));
-        String payload = Base64.getUrlEncoder().withoutPadding()
-                .encodeToString(payloadJson.getBytes(StandardCharsets.UTF_8));
+    /**
+     * A reusable JWT creator, for issuing many tokens with the same Algorithm, Header and some of the Payload
+     * claims, created with {@link Builder#template(Algorithm)}. The Header is serialized and encoded once, as are
+     * the shared Payload claims, so that signing a token only serializes the claims given for that token.
+     * <p>
+     * If the Algorithm was instantiated with a KeyProvider, the Header is encoded again whenever the provider's
+     * signing Key Id changes.
+     * <p>
+     * This class is thread-safe.
+     */
+    public static final class Template {
+        private final Algorithm algorithm;
+        private final Map<String, Object> headerClaims;
+        private final Map<String, Object> payloadClaims;
+        private final byte[] payloadJson;
+        private final byte[] encodedPayload;
+        private volatile EncodedHeader header;
 
-        byte[] signatureBytes = algorithm.sign(header.getBytes(StandardCharsets.UTF_8),
-                payload.getBytes(StandardCharsets.UTF_8));
-        String signature = Base64.getUrlEncoder().withoutPadding().encodeToString((signatureBytes));
+        private Template(Algorithm algorithm, Map<String, Object> headerClaims, Map<String, Object> payloadClaims)
+                throws JWTCreationException {
+            this.algorithm = algorithm;
+            this.headerClaims = headerClaims;
+            this.payloadClaims = payloadClaims;
+            this.payloadJson = toJson(new PayloadClaimsHolder(payloadClaims)).getBytes(StandardCharsets.UTF_8);
+            this.encodedPayload = Base64.getUrlEncoder().withoutPadding().encode(payloadJson);
+            this.header = encodeHeader(algorithm.getSigningKeyId());
+        }
+
+        /**
+         * Creates a new JWT with the template's claims and signs it.
+         *
+         * @return a new JWT token
+         * @throws JWTCreationException if the Header could not be converted to a valid JSON
+         *                              or there was a problem with the signing key.
+         */
+        public String sign() throws JWTCreationException {
+            return sign(Collections.emptyMap());
+        }
+
+        /**
+         * Creates a new JWT with the template's claims and the given ones, and signs it. A given claim replaces
+         * the template's claim of the same name.
+         *
+         * @param claims the values to add as Claims to the token's payload, of the types accepted by
+         *               {@link Builder#withPayload(Map)}.
+         * @return a new JWT token
+         * @throws IllegalArgumentException if any of the claim keys is null, or if the values are not of a
+         *                                  supported type.
+         * @throws JWTCreationException     if the claims could not be converted to a valid JSON
+         *                                  or there was a problem with the signing key.
+         */
+        public String sign(Map<String, ?> claims) throws IllegalArgumentException, JWTCreationException {
+            assertValid(claims);
+            TokenBuffer buffer = TokenBuffer.acquire();
+            try {
+                writeTo(buffer, claims);
+                return buffer.toString();
+            } finally {
+                buffer.release();
+            }
+        }
+
+        /**
+         * Creates a new JWT with the template's claims, signs it and writes it into the given buffer as ASCII
+         * bytes, without creating a String.
+         *
+         * @param target the buffer to write the JWT into, from its current position.
+         * @return the number of bytes written.
+         * @throws IllegalArgumentException if the provided buffer is null.
+         * @throws JWTCreationException     if the Header could not be converted to a valid JSON
+         *                                  or there was a problem with the signing key.
+         * @throws BufferOverflowException  if the JWT doesn't fit in the buffer's remaining space. Nothing is
+         *                                  written in that case.
+         */
+        public int sign(ByteBuffer target)
+                throws IllegalArgumentException, JWTCreationException, BufferOverflowException {
+            return sign(Collections.emptyMap(), target);
+        }
+
+        /**
+         * Creates a new JWT with the template's claims and the given ones, signs it and writes it into the given
+         * buffer as ASCII bytes, without creating a String. A given claim replaces the template's claim of the
+         * same name.
+         *
+         * @param claims the values to add as Claims to the token's payload, of the types accepted by
+         *               {@link Builder#withPayload(Map)}.
+         * @param target the buffer to write the JWT into, from its current position.
+         * @return the number of bytes written.
+         * @throws IllegalArgumentException if the provided buffer is null, if any of the claim keys is null, or if
+         *                                  the values are not of a supported type.
+         * @throws JWTCreationException     if the claims could not be converted to a valid JSON
+         *                                  or there was a problem with the signing key.
+         * @throws BufferOverflowException  if the JWT doesn't fit in the buffer's remaining space. Nothing is
+         *                                  written in that case.
+         */
+        public int sign(Map<String, ?> claims, ByteBuffer target)
+                throws IllegalArgumentException, JWTCreationException, BufferOverflowException {
+            assertValid(claims);
+            assertNonNullTarget(target);
+            TokenBuffer buffer = TokenBuffer.acquire();
+            try {
+                writeTo(buffer, claims);
+                return buffer.copyTo(target);
+            } finally {
+                buffer.release();
+            }
+        }
+
+        private static void assertValid(Map<String, ?> claims) throws IllegalArgumentException {
+            if (claims != null && !Builder.validatePayload(claims)) {
+                throw new IllegalArgumentException(INVALID_CLAIMS_MESSAGE);
+            }
+        }
+
+        /**
+         * Creates a new JWT for each of the given claims, with the template's claims, and signs them.
+         * All of them are signed with the Private Key and Key Id the algorithm's key provider returns when this
+         * method is called.
+         *
+         * @param claims the values to add as Claims to the payload of each token, of the types accepted by
+         *               {@link Builder#withPayload(Map)}. A null element adds no claims.
+         * @return the tokens, in the same order as the given claims.
+         * @throws IllegalArgumentException if the list of claims is null, if any of the claim keys is null, or if
+         *                                  the values are not of a supported type.
+         * @throws JWTCreationException     if the claims could not be converted to a valid JSON
+         *                                  or there was a problem with the signing key.
+         */
+        public List<String> signAll(List<? extends Map<String, ?>> claims)
+                throws IllegalArgumentException, JWTCreationException {
+            assertNonNullClaims(claims);
+            List<? extends Map<String, ?>> list = claims instanceof RandomAccess ? claims : new ArrayList<>(claims);
+            Batch batch = new Batch();
+            String[] tokens = new String[list.size()];
+            batch.signAll(list, 0, tokens.length, tokens);
+            return Collections.unmodifiableList(Arrays.asList(tokens));
+        }
+
+        /**
+         * Creates a new JWT for each of the given claims, with the template's claims, and signs them on the given
+         * executor. The claims are split in chunks signed in parallel, and this method returns once all the tokens
+         * were signed. All of them are signed with the Private Key and Key Id the algorithm's key provider returns
+         * when this method is called.
+         *
+         * @param claims   the values to add as Claims to the payload of each token, of the types accepted by
+         *                 {@link Builder#withPayload(Map)}. A null element adds no claims.
+         * @param executor the executor to sign the tokens on, such as a {@link java.util.concurrent.ForkJoinPool}.
+         * @return the tokens, in the same order as the given claims.
+         * @throws IllegalArgumentException if the list of claims or the executor is null, if any of the claim keys
+         *                                  is null, or if the values are not of a supported type.
+         * @throws JWTCreationException     if the claims could not be converted to a valid JSON
+         *                                  or there was a problem with the signing key.
+         */
+        public List<String> signAll(List<? extends Map<String, ?>> claims, Executor executor)
+                throws IllegalArgumentException, JWTCreationException {
+            assertNonNullClaims(claims);
+            assertNonNullExecutor(executor);
+            List<? extends Map<String, ?>> list = claims instanceof RandomAccess ? claims : new ArrayList<>(claims);
+            Batch batch = new Batch();
+            int size = list.size();
+            String[] tokens = new String[size];
+            CompletableFuture<?>[] chunks = new CompletableFuture<?>[(size + BATCH_CHUNK_SIZE - 1) / BATCH_CHUNK_SIZE];
+            for (int i = 0; i < chunks.length; i++) {
+                int from = i * BATCH_CHUNK_SIZE;
+                int to = Math.min(size, from + BATCH_CHUNK_SIZE);
+                chunks[i] = CompletableFuture.runAsync(() -> batch.signAll(list, from, to, tokens), executor);
+            }
+            join(CompletableFuture.allOf(chunks));
+            return Collections.unmodifiableList(Arrays.asList(tokens));
+        }
+
+        /**
+         * Creates a new JWT for each of the given claims, with the template's claims, signs them on the given
+         * executor and writes them to the given stream as ASCII bytes, each one followed by a line feed. The
+         * claims are read and signed in chunks, and the chunks are written in order as soon as they're signed, so
+         * that only a bounded number of tokens is held in memory at once. All the tokens are signed with the
+         * Private Key and Key Id the algorithm's key provider returns when this method is called.
+         * <p>
+         * If an exception is thrown, the tokens of the chunks written before it remain written.
+         * The stream is neither flushed nor closed.
+         *
+         * @param claims   the values to add as Claims to the payload of each token, of the types accepted by
+         *                 {@link Builder#withPayload(Map)}. A null element adds no claims.
+         * @param executor the executor to sign the tokens on, such as a {@link java.util.concurrent.ForkJoinPool}.
+         * @param out      the stream to write the tokens to.
+         * @return the number of tokens written.
+         * @throws IllegalArgumentException if the claims, the executor or the stream is null, if any of the claim
+         *                                  keys is null, or if the values are not of a supported type.
+         * @throws JWTCreationException     if the claims could not be converted to a valid JSON
+         *                                  or there was a problem with the signing key.
+         * @throws IOException              if the tokens could not be written to the stream.
+         */
+        public long signAll(Iterable<? extends Map<String, ?>> claims, Executor executor, OutputStream out)
+                throws IllegalArgumentException, JWTCreationException, IOException {
+            assertNonNullClaims(claims);
+            assertNonNullExecutor(executor);
+            if (out == null) {
+                throw new IllegalArgumentException("The OutputStream cannot be null.");
+            }
+            Batch batch = new Batch();
+            Deque<CompletableFuture<byte[]>> pending = new ArrayDeque<>();
+            Iterator<? extends Map<String, ?>> iterator = claims.iterator();
+            long count = 0;
+            while (iterator.hasNext()) {
+                List<Map<String, ?>> chunk = new ArrayList<>(BATCH_CHUNK_SIZE);
+                while (chunk.size() < BATCH_CHUNK_SIZE && iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                }
+                pending.add(CompletableFuture.supplyAsync(() -> batch.signAll(chunk), executor));
+                count += chunk.size();
+                if (pending.size() == MAX_PENDING_CHUNKS) {
+                    out.write(join(pending.remove()));
+                }
+            }
+            while (!pending.isEmpty()) {
+                out.write(join(pending.remove()));
+            }
+            return count;
+        }
+
+        /**
+         * Creates a new JWT for each of the given claims, with the template's claims, signs them on the given
+         * executor and writes them to the given channel as ASCII bytes, each one followed by a line feed.
+         * It behaves as {@link #signAll(Iterable, Executor, OutputStream)}.
+         *
+         * @param claims   the values to add as Claims to the payload of each token, of the types accepted by
+         *                 {@link Builder#withPayload(Map)}. A null element adds no claims.
+         * @param executor the executor to sign the tokens on, such as a {@link java.util.concurrent.ForkJoinPool}.
+         * @param channel  the channel to write the tokens to. It must be in blocking mode.
+         * @return the number of tokens written.
+         * @throws IllegalArgumentException if the claims, the executor or the channel is null, if any of the claim
+         *                                  keys is null, or if the values are not of a supported type.
+         * @throws JWTCreationException     if the claims could not be converted to a valid JSON
+         *                                  or there was a problem with the signing key.
+         * @throws IOException              if the tokens could not be written to the channel.
+         */
+        public long signAll(Iterable<? extends Map<String, ?>> claims, Executor executor,
+                            WritableByteChannel channel)
+                throws IllegalArgumentException, JWTCreationException, IOException {
+            if (channel == null) {
+                throw new IllegalArgumentException("The WritableByteChannel cannot be null.");
+            }
+            return signAll(claims, executor, Channels.newOutputStream(channel));
+        }
+
+        private static void assertNonNullClaims(Iterable<?> claims) throws IllegalArgumentException {
+            if (claims == null) {
+                throw new IllegalArgumentException("The claims cannot be null.");
+            }
+        }
+
+        private static void assertNonNullExecutor(Executor executor) throws IllegalArgumentException {
+            if (executor == null) {
+                throw new IllegalArgumentException("The Executor cannot be null.");
+            }
+        }
+
+        private static <T> T join(CompletableFuture<T> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        private EncodedHeader currentHeader(Algorithm algorithm) throws JWTCreationException {
+            EncodedHeader current = header;
+            String keyId = algorithm.getSigningKeyId();
+            if (!Objects.equals(keyId, current.keyId)) {
+                current = encodeHeader(keyId);
+                header = current;
+            }
+            return current;
+        }
+
+        private void writeTo(TokenBuffer buffer, Map<String, ?> claims) throws JWTCreationException {
+            writeTo(buffer, algorithm, currentHeader(algorithm), claims);
+        }
+
+        private void writeTo(TokenBuffer buffer, Algorithm algorithm, EncodedHeader current, Map<String, ?> claims)
+                throws JWTCreationException {
+            buffer.write(current.bytes, 0, current.bytes.length);
+            buffer.write('.');
+            if (claims == null || claims.isEmpty()) {
+                buffer.write(encodedPayload, 0, encodedPayload.length);
+            } else {
+                int start = buffer.size();
+                writePayloadJson(buffer, claims);
+                buffer.encodeFrom(start);
+            }
+            buffer.appendSignature(algorithm);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void writePayloadJson(TokenBuffer buffer, Map<String, ?> claims) throws JWTCreationException {
+            for (String name : claims.keySet()) {
+                if (payloadClaims.containsKey(name)) {
+                    Map<String, Object> merged = new LinkedHashMap<>(payloadClaims);
+                    merged.putAll(claims);
+                    buffer.writeJson(mapper, payloadSerializer, new PayloadClaimsHolder(merged));
+                    return;
+                }
+            }
+            PayloadClaimsHolder holder = new PayloadClaimsHolder((Map<String, Object>) claims);
+            if (payloadJson.length == 2) {
+                buffer.writeJson(mapper, payloadSerializer, holder);
+                return;
+            }
+            // both are JSON objects: join their members, replacing the '}' and '{' between them with a ','
+            buffer.write(payloadJson, 0, payloadJson.length - 1);
+            int start = buffer.size();
+            buffer.writeJson(mapper, payloadSerializer, holder);
+            if (buffer.size() - start == 2) {
+                buffer.truncate(start);
+                buffer.write('}');
+            } else {
+                buffer.set(start, ',');
+            }
+        }
+
+        /**
+         * The signing key and Header shared by the tokens of a batch.
+         */
+        private final class Batch {
+            private final Algorithm algorithm;
+            private final EncodedHeader header;
+
+            Batch() throws JWTCreationException {
+                this.algorithm = Template.this.algorithm.withCurrentSigningKey();
+                this.header = currentHeader(algorithm);
+            }
+
+            void signAll(List<? extends Map<String, ?>> claims, int from, int to, String[] tokens)
+                    throws JWTCreationException {
+                TokenBuffer buffer = TokenBuffer.acquire();
+                try {
+                    for (int i = from; i < to; i++) {
+                        Map<String, ?> tokenClaims = claims.get(i);
+                        assertValid(tokenClaims);
+                        writeTo(buffer, algorithm, header, tokenClaims);
+                        tokens[i] = buffer.toString();
+                        buffer.truncate(0);
+                    }
+                } finally {
+                    buffer.release();
+                }
+            }
+
+            byte[] signAll(List<Map<String, ?>> claims) throws JWTCreationException {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(claims.size() * (header.bytes.length + 256));
+                TokenBuffer buffer = TokenBuffer.acquire();
+                try {
+                    for (Map<String, ?> tokenClaims : claims) {
+                        assertValid(tokenClaims);
+                        writeTo(buffer, algorithm, header, tokenClaims);
+                        buffer.copyTo(out);
+                        out.write('\n');
+                        buffer.truncate(0);
+                    }
+                } finally {
+                    buffer.release();
+                }
+                return out.toByteArray();
+            }
+        }
+
+        private EncodedHeader encodeHeader(String keyId) throws JWTCreationException {
+            Map<String, Object> claims = headerClaims;
+            if (keyId != null) {
+                claims = new LinkedHashMap<>(headerClaims);
+                claims.put(HeaderParams.KEY_ID, keyId);
+            }
+            String json = toJson(new HeaderClaimsHolder(claims));
+            return new EncodedHeader(keyId,
+                    Base64.getUrlEncoder().withoutPadding().encode(json.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    private static final class EncodedHeader {
+        private final String keyId;
+        private final byte[] bytes;
+
+        EncodedHeader(String keyId, byte[] bytes) {
+            this.keyId = keyId;
+            this.bytes = bytes;
+        }
+    }
+
+    private static String toJson(ClaimsHolder claims) throws JWTCreationException {
+        try {
+            return mapper.writeValueAsString(claims);
+        } catch (JsonProcessingException e) {
+            throw new JWTCreationException("Some of the Claims couldn't be converted to a valid JSON format.", e);
+        }
+    }
+
+    private static void assertNonNullTarget(ByteBuffer target) throws IllegalArgumentException {
+        if (target == null) {
+            throw new IllegalArgumentException("The ByteBuffer cannot be null.");
+        }
+    }
+
+    private String sign() throws JWTCreationException {
+        TokenBuffer buffer = TokenBuffer.acquire();
+        try {
+            writeTo(buffer);
+            return buffer.toString();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private int sign(ByteBuffer target) throws JWTCreationException, BufferOverflowException {
+        TokenBuffer buffer = TokenBuffer.acquire();
+        try {
+            writeTo(buffer);
+            return buffer.copyTo(target);
+        } finally {
+            buffer.release();
+        }
+    }
 
-        return String.format("%s.%s.%s", header, payload, signature);
+    private void writeTo(TokenBuffer buffer) throws JWTCreationException {
+        buffer.writeJson(mapper, headerSerializer, header);
+        buffer.encodeFrom(0);
+        buffer.write('.');
+        int start = buffer.size();
+        buffer.writeJson(mapper, payloadSerializer, payload);
+        buffer.encodeFrom(start);
+        buffer.appendSignature(algorithm);
     }
 }
@@ -1,13 +1,17 @@
 package com.auth0.jwt;
 
 import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.impl.JWTEvents;
 import com.auth0.jwt.impl.JWTParser;
 import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.Header;
 import com.auth0.jwt.interfaces.Payload;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Base64;
@@ -18,6 +22,9 @@ import java.util.Map;
 /**
  * The JWTDecoder class holds the decode method to parse a given JWT token into it's JWT representation.
  * <p>
+ * When created lazily, the Payload is Base64 decoded and parsed on the first call to any of the Payload getters,
+ * so tokens rejected on their Header or Signature never pay for the Payload's JSON parsing.
+ * <p>
  * This class is thread-safe.
  */
 @SuppressWarnings("WeakerAccess")
@@ -27,26 +34,125 @@ final class JWTDecoder implements DecodedJWT, Serializable {
 
     private final String[] parts;
     private final Header header;
-    private final Payload payload;
+    private volatile Payload payload;
+    private transient JWTParser converter;
 
     JWTDecoder(String jwt) throws JWTDecodeException {
         this(new JWTParser(), jwt);
     }
 
     JWTDecoder(JWTParser converter, String jwt) throws JWTDecodeException {
-        parts = TokenUtils.splitToken(jwt);
-        String headerJson;
-        String payloadJson;
+        this(converter, jwt, false);
+    }
+
+    JWTDecoder(JWTParser converter, String jwt, boolean lazyPayload) throws JWTDecodeException {
+        Object event = JWTEvents.beginDecode();
+        try {
+            parts = TokenUtils.splitToken(jwt);
+            header = converter.parseHeaderSegment(parts[0]);
+            this.converter = converter;
+            if (!lazyPayload) {
+                payload = parsePayload();
+            }
+        } catch (JWTDecodeException e) {
+            if (event != null) {
+                JWTEvents.end(event, null, null, jwt != null ? jwt.length() : -1, e);
+            }
+            throw e;
+        }
+        if (event != null) {
+            JWTEvents.end(event, header.getAlgorithm(), header.getKeyId(), jwt.length(), null);
+        }
+    }
+
+    JWTDecoder(JWTParser converter, byte[] jwt) throws JWTDecodeException {
+        this(converter, jwt != null ? ByteBuffer.wrap(jwt) : null);
+    }
+
+    /**
+     * Decodes the token held between the buffer's position and its limit. The payload segment is Base64 decoded
+     * straight out of the buffer and the resulting bytes are given to the parser as they are, while the header
+     * segment goes through the parser's header cache. The buffer isn't modified nor referenced once this
+     * constructor returns.
+     */
+    JWTDecoder(JWTParser converter, ByteBuffer jwt) throws JWTDecodeException {
+        Object event = JWTEvents.beginDecode();
+        try {
+            int[] delimiters = TokenUtils.splitToken(jwt);
+            int start = jwt.position();
+            int end = jwt.limit();
+            parts = new String[]{
+                    segmentToString(jwt, start, delimiters[0]),
+                    segmentToString(jwt, delimiters[0] + 1, delimiters[1]),
+                    segmentToString(jwt, delimiters[1] + 1, end)
+            };
+            header = converter.parseHeaderSegment(parts[0]);
+            ByteBuffer payloadJson;
+            try {
+                payloadJson = Base64.getUrlDecoder().decode(segment(jwt, delimiters[0] + 1, delimiters[1]));
+            } catch (IllegalArgumentException e) {
+                throw new JWTDecodeException("The input is not a valid base 64 encoded string.", e);
+            }
+            payload = converter.parsePayload(payloadJson.array(), payloadJson.arrayOffset(),
+                    payloadJson.remaining());
+        } catch (JWTDecodeException e) {
+            if (event != null) {
+                JWTEvents.end(event, null, null, jwt != null ? jwt.remaining() : -1, e);
+            }
+            throw e;
+        }
+        if (event != null) {
+            JWTEvents.end(event, header.getAlgorithm(), header.getKeyId(), jwt.remaining(), null);
+        }
+    }
+
+    private Payload payload() {
+        Payload current = payload;
+        if (current == null) {
+            synchronized (this) {
+                current = payload;
+                if (current == null) {
+                    current = parsePayload();
+                    payload = current;
+                    converter = null;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Payload parsePayload() throws JWTDecodeException {
+        byte[] payloadJson = decodeBase64(parts[1]);
+        return converter.parsePayload(payloadJson, 0, payloadJson.length);
+    }
+
+    private static byte[] decodeBase64(String segment) throws JWTDecodeException {
         try {
-            headerJson = new String(Base64.getUrlDecoder().decode(parts[0]), StandardCharsets.UTF_8);
-            payloadJson = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
-        } catch (NullPointerException e) {
-            throw new JWTDecodeException("The UTF-8 Charset isn't initialized.", e);
+            return Base64.getUrlDecoder().decode(segment);
         } catch (IllegalArgumentException e) {
             throw new JWTDecodeException("The input is not a valid base 64 encoded string.", e);
         }
-        header = converter.parseHeader(headerJson);
-        payload = converter.parsePayload(payloadJson);
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        payload();
+        out.defaultWriteObject();
+    }
+
+    private static ByteBuffer segment(ByteBuffer token, int from, int to) {
+        ByteBuffer segment = token.duplicate();
+        segment.position(from);
+        segment.limit(to);
+        return segment;
+    }
+
+    private static String segmentToString(ByteBuffer token, int from, int to) {
+        if (token.hasArray()) {
+            return new String(token.array(), token.arrayOffset() + from, to - from, StandardCharsets.US_ASCII);
+        }
+        byte[] bytes = new byte[to - from];
+        segment(token, from, to).get(bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
     }
 
     @Override
@@ -76,62 +182,77 @@ final class JWTDecoder implements DecodedJWT, Serializable {
 
     @Override
     public String getIssuer() {
-        return payload.getIssuer();
+        return payload().getIssuer();
     }
 
     @Override
     public String getSubject() {
-        return payload.getSubject();
+        return payload().getSubject();
     }
 
     @Override
     public List<String> getAudience() {
-        return payload.getAudience();
+        return payload().getAudience();
     }
 
     @Override
     public Date getExpiresAt() {
-        return payload.getExpiresAt();
+        return payload().getExpiresAt();
     }
 
     @Override
     public Instant getExpiresAtAsInstant() {
-        return payload.getExpiresAtAsInstant();
+        return payload().getExpiresAtAsInstant();
+    }
+
+    @Override
+    public long getExpiresAtEpochSecond() {
+        return payload().getExpiresAtEpochSecond();
     }
 
     @Override
     public Date getNotBefore() {
-        return payload.getNotBefore();
+        return payload().getNotBefore();
     }
 
     @Override
     public Instant getNotBeforeAsInstant() {
-        return  payload.getNotBeforeAsInstant();
+        return payload().getNotBeforeAsInstant();
+    }
+
+    @Override
+    public long getNotBeforeEpochSecond() {
+        return payload().getNotBeforeEpochSecond();
     }
 
     @Override
     public Date getIssuedAt() {
-        return payload.getIssuedAt();
+        return payload().getIssuedAt();
     }
 
     @Override
     public Instant getIssuedAtAsInstant() {
-        return payload.getIssuedAtAsInstant();
+        return payload().getIssuedAtAsInstant();
+    }
+
+    @Override
+    public long getIssuedAtEpochSecond() {
+        return payload().getIssuedAtEpochSecond();
     }
 
     @Override
     public String getId() {
-        return payload.getId();
+        return payload().getId();
     }
 
     @Override
     public Claim getClaim(String name) {
-        return payload.getClaim(name);
+        return payload().getClaim(name);
     }
 
     @Override
     public Map<String, Claim> getClaims() {
-        return payload.getClaims();
+        return payload().getClaims();
     }
 
     @Override
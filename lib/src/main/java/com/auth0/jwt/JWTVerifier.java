@@ -2,17 +2,23 @@ package com.auth0.jwt;
 
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.*;
+import com.auth0.jwt.impl.JWTEvents;
 import com.auth0.jwt.impl.JWTParser;
 import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.impl.ExpectedCheckHolder;
+import com.auth0.jwt.interfaces.RevocationList;
 import com.auth0.jwt.interfaces.Verification;
+import com.auth0.jwt.interfaces.VerificationListener;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiPredicate;
 
 /**
@@ -24,16 +30,35 @@ import java.util.function.BiPredicate;
  * @see com.auth0.jwt.interfaces.JWTVerifier
  */
 public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
+    private static final int BATCH_CHUNK_SIZE = 64;
+
     private final Algorithm algorithm;
     final List<ExpectedCheckHolder> expectedChecks;
+    private final ExpectedCheckHolder[] claimChecks;
+    private final ExpectedCheckHolder[] timeChecks;
+    private final Clock clock;
+    private final VerifiedTokenCache cache;
+    private final RevocationList revocationList;
+    private final VerificationListener listener;
     private final JWTParser parser;
 
-    JWTVerifier(Algorithm algorithm, List<ExpectedCheckHolder> expectedChecks) {
+    JWTVerifier(Algorithm algorithm, List<ExpectedCheckHolder> expectedChecks, List<ExpectedCheckHolder> timeChecks,
+                Clock clock, VerifiedTokenCache cache, RevocationList revocationList, VerificationListener listener) {
         this.algorithm = algorithm;
         this.expectedChecks = Collections.unmodifiableList(expectedChecks);
+        this.claimChecks = expectedChecks.toArray(new ExpectedCheckHolder[0]);
+        this.timeChecks = timeChecks.toArray(new ExpectedCheckHolder[0]);
+        this.clock = clock;
+        this.cache = cache;
+        this.revocationList = revocationList;
+        this.listener = listener;
         this.parser = new JWTParser();
     }
 
+    Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
     /**
      * Initialize a {@link Verification} instance using the given Algorithm.
      *
@@ -58,6 +83,10 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
         private long defaultLeeway;
         private final Map<String, Long> customLeeways;
         private boolean ignoreIssuedAt;
+        private int cacheMaxSize;
+        private Duration cacheTtl;
+        private RevocationList revocationList;
+        private VerificationListener listener;
         private Clock clock;
 
         BaseVerification(Algorithm algorithm) throws IllegalArgumentException {
@@ -74,55 +103,53 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
         @Override
         public Verification withIssuer(String... issuer) {
             List<String> value = isNullOrEmpty(issuer) ? null : Arrays.asList(issuer);
-            addCheck(RegisteredClaims.ISSUER, ((claim, decodedJWT) -> {
-                if (verifyNull(claim, value)) {
-                    return true;
-                }
-                if (value == null || !value.contains(claim.asString())) {
-                    throw new IncorrectClaimException(
-                            "The Claim 'iss' value doesn't match the required issuer.", RegisteredClaims.ISSUER, claim);
-                }
-                return true;
-            }));
+            expectedChecks.add(new StringClaimCheck(constructExpectedCheck(RegisteredClaims.ISSUER,
+                    (claim, decodedJWT) -> {
+                        if (verifyNull(claim, value)) {
+                            return true;
+                        }
+                        if (value == null || !value.contains(claim.asString())) {
+                            throw new IncorrectClaimException(
+                                    "The Claim 'iss' value doesn't match the required issuer.",
+                                    RegisteredClaims.ISSUER, claim);
+                        }
+                        return true;
+                    }), value));
             return this;
         }
 
         @Override
         public Verification withSubject(String subject) {
-            addCheck(RegisteredClaims.SUBJECT, (claim, decodedJWT) ->
-                    verifyNull(claim, subject) || subject.equals(claim.asString()));
+            expectedChecks.add(new StringClaimCheck(constructExpectedCheck(RegisteredClaims.SUBJECT,
+                    (claim, decodedJWT) -> verifyNull(claim, subject) || subject.equals(claim.asString())),
+                    Collections.singletonList(subject)));
             return this;
         }
 
         @Override
         public Verification withAudience(String... audience) {
-            List<String> value = isNullOrEmpty(audience) ? null : Arrays.asList(audience);
-            addCheck(RegisteredClaims.AUDIENCE, ((claim, decodedJWT) -> {
-                if (verifyNull(claim, value)) {
-                    return true;
-                }
-                if (!assertValidAudienceClaim(decodedJWT.getAudience(), value, true)) {
-                    throw new IncorrectClaimException("The Claim 'aud' value doesn't contain the required audience.",
-                            RegisteredClaims.AUDIENCE, claim);
-                }
-                return true;
-            }));
-            return this;
+            return withAudience(audience, true);
         }
 
         @Override
         public Verification withAnyOfAudience(String... audience) {
+            return withAudience(audience, false);
+        }
+
+        private Verification withAudience(String[] audience, boolean shouldContainAll) {
             List<String> value = isNullOrEmpty(audience) ? null : Arrays.asList(audience);
-            addCheck(RegisteredClaims.AUDIENCE, ((claim, decodedJWT) -> {
-                if (verifyNull(claim, value)) {
-                    return true;
-                }
-                if (!assertValidAudienceClaim(decodedJWT.getAudience(), value, false)) {
-                    throw new IncorrectClaimException("The Claim 'aud' value doesn't contain the required audience.",
-                            RegisteredClaims.AUDIENCE, claim);
-                }
-                return true;
-            }));
+            expectedChecks.add(new AudienceClaimCheck(constructExpectedCheck(RegisteredClaims.AUDIENCE,
+                    (claim, decodedJWT) -> {
+                        if (verifyNull(claim, value)) {
+                            return true;
+                        }
+                        if (!assertValidAudienceClaim(decodedJWT.getAudience(), value, shouldContainAll)) {
+                            throw new IncorrectClaimException(
+                                    "The Claim 'aud' value doesn't contain the required audience.",
+                                    RegisteredClaims.AUDIENCE, claim);
+                        }
+                        return true;
+                    }), value, shouldContainAll));
             return this;
         }
 
@@ -160,10 +187,43 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
             return this;
         }
 
+        @Override
+        public Verification withVerifiedTokenCache(int maxSize, Duration ttl) throws IllegalArgumentException {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("The cache size must be greater than zero.");
+            }
+            if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("The cache TTL must be a positive duration.");
+            }
+            this.cacheMaxSize = maxSize;
+            this.cacheTtl = ttl;
+            return this;
+        }
+
+        @Override
+        public Verification withRevocationList(RevocationList revocationList) throws IllegalArgumentException {
+            if (revocationList == null) {
+                throw new IllegalArgumentException("The RevocationList cannot be null.");
+            }
+            this.revocationList = revocationList;
+            return this;
+        }
+
+        @Override
+        public Verification withVerificationListener(VerificationListener listener)
+                throws IllegalArgumentException {
+            if (listener == null) {
+                throw new IllegalArgumentException("The VerificationListener cannot be null.");
+            }
+            this.listener = listener;
+            return this;
+        }
+
         @Override
         public Verification withJWTId(String jwtId) {
-            addCheck(RegisteredClaims.JWT_ID, ((claim, decodedJWT) ->
-                    verifyNull(claim, jwtId) || jwtId.equals(claim.asString())));
+            expectedChecks.add(new StringClaimCheck(constructExpectedCheck(RegisteredClaims.JWT_ID,
+                    (claim, decodedJWT) -> verifyNull(claim, jwtId) || jwtId.equals(claim.asString())),
+                    Collections.singletonList(jwtId)));
             return this;
         }
 
@@ -285,8 +345,11 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
          */
         public JWTVerifier build(Clock clock) {
             this.clock = clock;
-            addMandatoryClaimChecks();
-            return new JWTVerifier(algorithm, expectedChecks);
+            List<ExpectedCheckHolder> timeChecks = addMandatoryClaimChecks();
+            VerifiedTokenCache cache = cacheTtl == null ? null
+                    : new VerifiedTokenCache(cacheMaxSize, cacheTtl.toMillis());
+            return new JWTVerifier(algorithm, expectedChecks, timeChecks, clock, cache, revocationList,
+                    listener);
         }
 
         /**
@@ -299,19 +362,18 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
             return customLeeways.getOrDefault(name, defaultLeeway);
         }
 
-        private void addMandatoryClaimChecks() {
+        private List<ExpectedCheckHolder> addMandatoryClaimChecks() {
+            int firstTimeCheck = expectedChecks.size();
             long expiresAtLeeway = getLeewayFor(RegisteredClaims.EXPIRES_AT);
             long notBeforeLeeway = getLeewayFor(RegisteredClaims.NOT_BEFORE);
             long issuedAtLeeway = getLeewayFor(RegisteredClaims.ISSUED_AT);
 
-            expectedChecks.add(constructExpectedCheck(RegisteredClaims.EXPIRES_AT, (claim, decodedJWT) ->
-                    assertValidInstantClaim(RegisteredClaims.EXPIRES_AT, claim, expiresAtLeeway, true)));
-            expectedChecks.add(constructExpectedCheck(RegisteredClaims.NOT_BEFORE, (claim, decodedJWT) ->
-                    assertValidInstantClaim(RegisteredClaims.NOT_BEFORE, claim, notBeforeLeeway, false)));
+            expectedChecks.add(new TimeClaimCheck(RegisteredClaims.EXPIRES_AT, expiresAtLeeway, true, clock));
+            expectedChecks.add(new TimeClaimCheck(RegisteredClaims.NOT_BEFORE, notBeforeLeeway, false, clock));
             if (!ignoreIssuedAt) {
-                expectedChecks.add(constructExpectedCheck(RegisteredClaims.ISSUED_AT, (claim, decodedJWT) ->
-                        assertValidInstantClaim(RegisteredClaims.ISSUED_AT, claim, issuedAtLeeway, false)));
+                expectedChecks.add(new TimeClaimCheck(RegisteredClaims.ISSUED_AT, issuedAtLeeway, false, clock));
             }
+            return new ArrayList<>(expectedChecks.subList(firstTimeCheck, expectedChecks.size()));
         }
 
         private boolean assertValidCollectionClaim(Claim claim, Object[] expectedClaimValue) {
@@ -336,33 +398,6 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
             return claimArr.containsAll(valueArr);
         }
 
-        private boolean assertValidInstantClaim(String claimName, Claim claim, long leeway, boolean shouldBeFuture) {
-            Instant claimVal = claim.asInstant();
-            Instant now = clock.instant().truncatedTo(ChronoUnit.SECONDS);
-            boolean isValid;
-            if (shouldBeFuture) {
-                isValid = assertInstantIsFuture(claimVal, leeway, now);
-                if (!isValid) {
-                    throw new TokenExpiredException(String.format("The Token has expired on %s.", claimVal), claimVal);
-                }
-            } else {
-                isValid = assertInstantIsLessThanOrEqualToNow(claimVal, leeway, now);
-                if (!isValid) {
-                    throw new IncorrectClaimException(
-                            String.format("The Token can't be used before %s.", claimVal), claimName, claim);
-                }
-            }
-            return true;
-        }
-
-        private boolean assertInstantIsFuture(Instant claimVal, long leeway, Instant now) {
-            return claimVal == null || now.minus(Duration.ofSeconds(leeway)).isBefore(claimVal);
-        }
-
-        private boolean assertInstantIsLessThanOrEqualToNow(Instant claimVal, long leeway, Instant now) {
-            return !(claimVal != null && now.plus(Duration.ofSeconds(leeway)).isBefore(claimVal));
-        }
-
         private boolean assertValidAudienceClaim(
                 List<String> actualAudience,
                 List<String> expectedAudience,
@@ -392,12 +427,7 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
         }
 
         private void addCheck(String name, BiPredicate<Claim, DecodedJWT> predicate) {
-            expectedChecks.add(constructExpectedCheck(name, (claim, decodedJWT) -> {
-                if (claim.isMissing()) {
-                    throw new MissingClaimException(name);
-                }
-                return predicate.test(claim, decodedJWT);
-            }));
+            expectedChecks.add(constructExpectedCheck(name, predicate));
         }
 
         private ExpectedCheckHolder constructExpectedCheck(String claimName, BiPredicate<Claim, DecodedJWT> check) {
@@ -409,6 +439,9 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
 
                 @Override
                 public boolean verify(Claim claim, DecodedJWT decodedJWT) {
+                    if (claim.isMissing()) {
+                        throw new MissingClaimException(claimName);
+                    }
                     return check.test(claim, decodedJWT);
                 }
             };
@@ -436,6 +469,9 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
 
     /**
      * Perform the verification against the given Token, using any previous configured options.
+     * The token's Payload is not decoded until its algorithm and signature have been verified.
+     * If a verified token cache was configured, a token that was already verified only has its
+     * Expires At, Not Before and Issued At claims checked again.
      *
      * @param token to verify.
      * @return a verified and decoded JWT.
@@ -445,11 +481,24 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
      * @throws TokenExpiredException          if the token has expired.
      * @throws MissingClaimException          if a claim to be verified is missing.
      * @throws IncorrectClaimException        if a claim contained a different value than the expected one.
+     * @throws TokenRevokedException          if the token was revoked.
      */
     @Override
     public DecodedJWT verify(String token) throws JWTVerificationException {
-        DecodedJWT jwt = new JWTDecoder(parser, token);
-        return verify(jwt);
+        Object event = JWTEvents.beginVerification();
+        if (event == null) {
+            return verify(token, null, clock.millis());
+        }
+        int tokenLength = token != null ? token.length() : -1;
+        DecodedJWT jwt;
+        try {
+            jwt = verify(token, null, clock.millis());
+        } catch (JWTVerificationException e) {
+            JWTEvents.end(event, algorithm.getName(), null, tokenLength, e);
+            throw e;
+        }
+        JWTEvents.end(event, algorithm.getName(), jwt.getKeyId(), tokenLength, null);
+        return jwt;
     }
 
     /**
@@ -463,15 +512,263 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
      * @throws TokenExpiredException          if the token has expired.
      * @throws MissingClaimException          if a claim to be verified is missing.
      * @throws IncorrectClaimException        if a claim contained a different value than the expected one.
+     * @throws TokenRevokedException          if the token was revoked.
      */
     @Override
     public DecodedJWT verify(DecodedJWT jwt) throws JWTVerificationException {
+        Object event = JWTEvents.beginVerification();
+        if (event == null) {
+            return verify(null, jwt, clock.millis());
+        }
+        DecodedJWT verified;
+        try {
+            verified = verify(null, jwt, clock.millis());
+        } catch (JWTVerificationException e) {
+            JWTEvents.end(event, algorithm.getName(), jwt.getKeyId(), JWTEvents.tokenLength(jwt), e);
+            throw e;
+        }
+        JWTEvents.end(event, algorithm.getName(), jwt.getKeyId(), JWTEvents.tokenLength(jwt), null);
+        return verified;
+    }
+
+    /**
+     * Perform the verification against the given Token, using any previous configured options, without blocking
+     * the calling thread. The token's header and algorithm are checked on the calling thread; the Public Key is
+     * then looked up asynchronously and the signature verified on the given executor, before the claims are
+     * checked exactly as {@link #verify(DecodedJWT)} does.
+     *
+     * @param token    to verify.
+     * @param executor the executor to verify the signature on.
+     * @return a future completed with the verified and decoded JWT, or completed exceptionally with a
+     *         {@link JWTVerificationException} if any of the verification steps fail.
+     * @throws IllegalArgumentException if the executor is null.
+     */
+    @Override
+    public CompletableFuture<DecodedJWT> verifyAsync(String token, Executor executor) throws IllegalArgumentException {
+        if (executor == null) {
+            throw new IllegalArgumentException("The Executor cannot be null.");
+        }
+        if (listener == null) {
+            return verifyAsync(token, executor, null);
+        }
+        VerificationTimings timings = new VerificationTimings();
+        return verifyAsync(token, executor, timings).whenComplete((jwt, error) -> {
+            timings.end();
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause == null) {
+                listener.onSuccess(jwt, timings);
+            } else if (cause instanceof JWTVerificationException) {
+                JWTVerificationException e = (JWTVerificationException) cause;
+                listener.onFailure(e, claimNameOf(e), timings);
+            }
+        });
+    }
+
+    /**
+     * Verifies the given token as {@link #verifyAsync(String, Executor)} does, timing each stage if timings are
+     * given. The asynchronous key lookup is timed as part of the signature stage.
+     */
+    private CompletableFuture<DecodedJWT> verifyAsync(String token, Executor executor, VerificationTimings timings) {
+        try {
+            long nowMillis = clock.millis();
+            DecodedJWT cached = verifyCached(token, nowMillis, timings);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+            DecodedJWT jwt = new JWTDecoder(parser, token, true);
+            if (timings != null) {
+                timings.decoded();
+            }
+            verifyAlgorithm(jwt, algorithm);
+            return algorithm.verifyAsync(jwt, executor).thenApply(verified -> {
+                if (timings != null) {
+                    timings.signatureVerified();
+                }
+                return verifyClaims(token, jwt, clock.millis());
+            });
+        } catch (JWTVerificationException e) {
+            CompletableFuture<DecodedJWT> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    /**
+     * Perform the verification against each of the given Tokens, using any previous configured options.
+     * The time-based claims of all the tokens are checked against a single read of the clock.
+     *
+     * @param tokens to verify.
+     * @return the result of each token, in the same order as the given tokens.
+     * @throws IllegalArgumentException if the list of tokens is null.
+     */
+    @Override
+    public List<VerificationResult> verifyAll(List<String> tokens) throws IllegalArgumentException {
+        if (tokens == null) {
+            throw new IllegalArgumentException("The tokens cannot be null.");
+        }
+        List<String> list = tokens instanceof RandomAccess ? tokens : new ArrayList<>(tokens);
+        VerificationResult[] results = new VerificationResult[list.size()];
+        verifyAll(list, 0, list.size(), clock.millis(), results);
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    /**
+     * Perform the verification against each of the given Tokens, using any previous configured options.
+     * The tokens are split in chunks verified on the given executor, and the time-based claims of all the
+     * tokens are checked against a single read of the clock. This method returns once all tokens were verified.
+     *
+     * @param tokens   to verify.
+     * @param executor the executor to run the verifications on.
+     * @return the result of each token, in the same order as the given tokens.
+     * @throws IllegalArgumentException if the list of tokens or the executor is null.
+     */
+    @Override
+    public List<VerificationResult> verifyAll(List<String> tokens, Executor executor)
+            throws IllegalArgumentException {
+        if (tokens == null) {
+            throw new IllegalArgumentException("The tokens cannot be null.");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("The Executor cannot be null.");
+        }
+        List<String> list = tokens instanceof RandomAccess ? tokens : new ArrayList<>(tokens);
+        int size = list.size();
+        long nowMillis = clock.millis();
+        VerificationResult[] results = new VerificationResult[size];
+        CompletableFuture<?>[] chunks = new CompletableFuture<?>[(size + BATCH_CHUNK_SIZE - 1) / BATCH_CHUNK_SIZE];
+        for (int i = 0; i < chunks.length; i++) {
+            int from = i * BATCH_CHUNK_SIZE;
+            int to = Math.min(size, from + BATCH_CHUNK_SIZE);
+            chunks[i] = CompletableFuture.runAsync(() -> verifyAll(list, from, to, nowMillis, results), executor);
+        }
+        try {
+            CompletableFuture.allOf(chunks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    private void verifyAll(List<String> tokens, int from, int to, long nowMillis,
+                           VerificationResult[] results) {
+        for (int i = from; i < to; i++) {
+            String token = tokens.get(i);
+            try {
+                results[i] = VerificationResult.success(token, verify(token, null, nowMillis));
+            } catch (JWTVerificationException e) {
+                results[i] = VerificationResult.failure(token, e);
+            }
+        }
+    }
+
+    /**
+     * Verifies either the given token or the given decoded JWT, reporting the outcome to the listener if there is
+     * one.
+     */
+    private DecodedJWT verify(String token, DecodedJWT decoded, long nowMillis) throws JWTVerificationException {
+        if (listener == null) {
+            return verify(token, decoded, nowMillis, null);
+        }
+        VerificationTimings timings = new VerificationTimings();
+        DecodedJWT jwt;
+        try {
+            jwt = verify(token, decoded, nowMillis, timings);
+        } catch (JWTVerificationException e) {
+            timings.end();
+            listener.onFailure(e, claimNameOf(e), timings);
+            throw e;
+        }
+        timings.end();
+        listener.onSuccess(jwt, timings);
+        return jwt;
+    }
+
+    /**
+     * Verifies either the given token or the given decoded JWT, timing each stage if timings are given. Only a
+     * token is looked up in and added to the verified token cache.
+     */
+    private DecodedJWT verify(String token, DecodedJWT decoded, long nowMillis, VerificationTimings timings)
+            throws JWTVerificationException {
+        DecodedJWT jwt = decoded;
+        if (jwt == null) {
+            DecodedJWT cached = verifyCached(token, nowMillis, timings);
+            if (cached != null) {
+                return cached;
+            }
+            jwt = new JWTDecoder(parser, token, true);
+            if (timings != null) {
+                timings.decoded();
+            }
+        } else if (timings != null) {
+            timings.alreadyDecoded();
+        }
         verifyAlgorithm(jwt, algorithm);
-        algorithm.verify(jwt);
-        verifyClaims(jwt, expectedChecks);
+        if (timings != null) {
+            algorithm.verify(jwt, timings::keyLookup);
+            timings.signatureVerified();
+        } else {
+            algorithm.verify(jwt);
+        }
+        return verifyClaims(token, jwt, nowMillis);
+    }
+
+    /**
+     * Looks the given token up in the verified token cache, checking the time-based claims and the revocation of
+     * the cached JWT again.
+     *
+     * @return the cached JWT, or null if the token is not cached.
+     */
+    private DecodedJWT verifyCached(String token, long nowMillis, VerificationTimings timings)
+            throws JWTVerificationException {
+        DecodedJWT cached = cache != null ? cache.get(token, nowMillis) : null;
+        if (cached != null) {
+            if (timings != null) {
+                timings.cached();
+            }
+            verifyClaims(cached, timeChecks, nowMillis);
+            verifyNotRevoked(cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Checks the claims and the revocation of a JWT whose signature was verified, adding its token to the verified
+     * token cache if it's known.
+     */
+    private DecodedJWT verifyClaims(String token, DecodedJWT jwt, long nowMillis) throws JWTVerificationException {
+        verifyClaims(jwt, claimChecks, nowMillis);
+        verifyNotRevoked(jwt);
+        if (cache != null && token != null) {
+            cache.put(token, jwt, nowMillis);
+        }
         return jwt;
     }
 
+    private static String claimNameOf(JWTVerificationException e) {
+        if (e instanceof IncorrectClaimException) {
+            return ((IncorrectClaimException) e).getClaimName();
+        }
+        if (e instanceof MissingClaimException) {
+            return ((MissingClaimException) e).getClaimName();
+        }
+        if (e instanceof TokenExpiredException) {
+            return RegisteredClaims.EXPIRES_AT;
+        }
+        return null;
+    }
+
+    private void verifyNotRevoked(DecodedJWT jwt) throws TokenRevokedException {
+        if (revocationList != null && revocationList.isRevoked(jwt)) {
+            throw new TokenRevokedException("The Token has been revoked.");
+        }
+    }
+
     private void verifyAlgorithm(DecodedJWT jwt, Algorithm expectedAlgorithm) throws AlgorithmMismatchException {
         if (!expectedAlgorithm.getName().equals(jwt.getAlgorithm())) {
             throw new AlgorithmMismatchException(
@@ -479,16 +776,20 @@ public final class JWTVerifier implements com.auth0.jwt.interfaces.JWTVerifier {
         }
     }
 
-    private void verifyClaims(DecodedJWT jwt, List<ExpectedCheckHolder> expectedChecks)
+    private void verifyClaims(DecodedJWT jwt, ExpectedCheckHolder[] checks, long nowMillis)
             throws TokenExpiredException, InvalidClaimException {
-        for (ExpectedCheckHolder expectedCheck : expectedChecks) {
-            boolean isValid;
+        for (ExpectedCheckHolder expectedCheck : checks) {
+            if (expectedCheck instanceof TimeClaimCheck) {
+                ((TimeClaimCheck) expectedCheck).verify(jwt, nowMillis);
+                continue;
+            }
+            if (expectedCheck instanceof CompiledClaimCheck && ((CompiledClaimCheck) expectedCheck).matches(jwt)) {
+                continue;
+            }
             String claimName = expectedCheck.getClaimName();
             Claim claim = jwt.getClaim(claimName);
 
-            isValid = expectedCheck.verify(claim, jwt);
-
-            if (!isValid) {
+            if (!expectedCheck.verify(claim, jwt)) {
                 throw new IncorrectClaimException(
                         String.format("The Claim '%s' value doesn't match the required one.", claimName),
                         claimName,
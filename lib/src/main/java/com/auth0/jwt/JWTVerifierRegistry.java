@@ -0,0 +1,220 @@
+package com.auth0.jwt;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.AlgorithmMismatchException;
+import com.auth0.jwt.exceptions.IncorrectClaimException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.MissingClaimException;
+import com.auth0.jwt.impl.JWTParser;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link JWTVerifier} instances of each tenant, for services that accept tokens from many issuers.
+ * A token is decoded once, routed to the verifier registered for its Issuer claim and its header's Key Id or
+ * Algorithm, and verified with {@link JWTVerifier#verify(DecodedJWT)}.
+ * <p>
+ * Within a tenant, a verifier registered for the token's Key Id is preferred over the one registered for the
+ * token's Algorithm, which is in turn preferred over one registered for any Algorithm. Note that the token's
+ * Payload has to be decoded before its signature is verified, in order to read the Issuer claim.
+ * <p>
+ * Tenants can be registered and unregistered at any time. Each update replaces the tenant's routes at once, and
+ * never blocks the tokens being verified.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class JWTVerifierRegistry implements JWTVerifier {
+
+    private final Map<String, Tenant> tenants;
+    private final JWTParser parser;
+
+    /**
+     * Creates an empty registry.
+     */
+    public JWTVerifierRegistry() {
+        this.tenants = new ConcurrentHashMap<>();
+        this.parser = new JWTParser();
+    }
+
+    /**
+     * Registers the verifier of the given issuer for the tokens signed with the verifier's algorithm, or for the
+     * tokens signed with any algorithm if the verifier wasn't built by {@link JWT#require(Algorithm)}.
+     * It replaces any verifier previously registered for the same issuer and algorithm.
+     *
+     * @param issuer   the value of the Issuer claim of the tenant's tokens.
+     * @param verifier the verifier of the tenant's tokens.
+     * @return this same registry instance.
+     * @throws IllegalArgumentException if the issuer or the verifier is null.
+     */
+    public JWTVerifierRegistry register(String issuer, JWTVerifier verifier) throws IllegalArgumentException {
+        assertNonNull(issuer, verifier);
+        String algorithm = verifier instanceof com.auth0.jwt.JWTVerifier
+                ? ((com.auth0.jwt.JWTVerifier) verifier).getAlgorithm().getName() : null;
+        tenants.compute(issuer, (name, tenant) -> (tenant != null ? tenant : Tenant.EMPTY)
+                .withAlgorithm(algorithm, verifier));
+        return this;
+    }
+
+    /**
+     * Registers the verifier of the given issuer for the tokens with the given Key Id in their header.
+     * It replaces any verifier previously registered for the same issuer and Key Id.
+     *
+     * @param issuer   the value of the Issuer claim of the tenant's tokens.
+     * @param keyId    the value of the Key Id header of the tokens.
+     * @param verifier the verifier of the tenant's tokens with that Key Id.
+     * @return this same registry instance.
+     * @throws IllegalArgumentException if the issuer, the Key Id or the verifier is null.
+     */
+    public JWTVerifierRegistry register(String issuer, String keyId, JWTVerifier verifier)
+            throws IllegalArgumentException {
+        assertNonNull(issuer, verifier);
+        if (keyId == null) {
+            throw new IllegalArgumentException("The Key Id cannot be null.");
+        }
+        tenants.compute(issuer, (name, tenant) -> (tenant != null ? tenant : Tenant.EMPTY)
+                .withKeyId(keyId, verifier));
+        return this;
+    }
+
+    /**
+     * Unregisters all the verifiers of the given issuer.
+     *
+     * @param issuer the value of the Issuer claim of the tenant's tokens.
+     * @return true if any verifier was registered for the issuer, false otherwise.
+     */
+    public boolean unregister(String issuer) {
+        return issuer != null && tenants.remove(issuer) != null;
+    }
+
+    /**
+     * Unregisters the verifier of the given issuer for the tokens with the given Key Id in their header.
+     *
+     * @param issuer the value of the Issuer claim of the tenant's tokens.
+     * @param keyId  the value of the Key Id header of the tokens.
+     * @return true if a verifier was registered for the issuer and Key Id, false otherwise.
+     */
+    public boolean unregister(String issuer, String keyId) {
+        if (issuer == null || keyId == null) {
+            return false;
+        }
+        boolean[] removed = new boolean[1];
+        tenants.computeIfPresent(issuer, (name, tenant) -> {
+            Tenant updated = tenant.withoutKeyId(keyId);
+            removed[0] = updated != tenant;
+            return updated.isEmpty() ? null : updated;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Perform the verification against the given Token, with the verifier registered for its issuer.
+     *
+     * @param token to verify.
+     * @return a verified and decoded JWT.
+     * @throws MissingClaimException          if the token doesn't have an Issuer claim.
+     * @throws IncorrectClaimException        if no verifier is registered for the token's issuer.
+     * @throws AlgorithmMismatchException     if no verifier of the token's issuer is registered for its
+     *                                        Key Id or Algorithm.
+     * @throws JWTVerificationException       if the verification of the token fails.
+     */
+    @Override
+    public DecodedJWT verify(String token) throws JWTVerificationException {
+        return verify(new JWTDecoder(parser, token, true));
+    }
+
+    /**
+     * Perform the verification against the given decoded JWT, with the verifier registered for its issuer.
+     *
+     * @param jwt to verify.
+     * @return a verified and decoded JWT.
+     * @throws MissingClaimException          if the token doesn't have an Issuer claim.
+     * @throws IncorrectClaimException        if no verifier is registered for the token's issuer.
+     * @throws AlgorithmMismatchException     if no verifier of the token's issuer is registered for its
+     *                                        Key Id or Algorithm.
+     * @throws JWTVerificationException       if the verification of the token fails.
+     */
+    @Override
+    public DecodedJWT verify(DecodedJWT jwt) throws JWTVerificationException {
+        return route(jwt).verify(jwt);
+    }
+
+    private JWTVerifier route(DecodedJWT jwt) throws JWTVerificationException {
+        String issuer = jwt.getIssuer();
+        if (issuer == null) {
+            throw new MissingClaimException(RegisteredClaims.ISSUER);
+        }
+        Tenant tenant = tenants.get(issuer);
+        if (tenant == null) {
+            throw new IncorrectClaimException("The Claim 'iss' value doesn't match the required issuer.",
+                    RegisteredClaims.ISSUER, jwt.getClaim(RegisteredClaims.ISSUER));
+        }
+        String keyId = jwt.getKeyId();
+        JWTVerifier verifier = keyId != null ? tenant.byKeyId.get(keyId) : null;
+        if (verifier == null) {
+            String algorithm = jwt.getAlgorithm();
+            verifier = algorithm != null ? tenant.byAlgorithm.get(algorithm) : null;
+        }
+        if (verifier == null) {
+            verifier = tenant.byAlgorithm.get(null);
+        }
+        if (verifier == null) {
+            throw new AlgorithmMismatchException(
+                    "The provided Algorithm doesn't match the one defined in the JWT's Header.");
+        }
+        return verifier;
+    }
+
+    private static void assertNonNull(String issuer, JWTVerifier verifier) {
+        if (issuer == null) {
+            throw new IllegalArgumentException("The Issuer cannot be null.");
+        }
+        if (verifier == null) {
+            throw new IllegalArgumentException("The JWTVerifier cannot be null.");
+        }
+    }
+
+    /**
+     * The verifiers of one issuer. Instances are immutable: every update creates a new one.
+     */
+    private static final class Tenant {
+        private static final Tenant EMPTY = new Tenant(Collections.emptyMap(), Collections.emptyMap());
+
+        private final Map<String, JWTVerifier> byAlgorithm;
+        private final Map<String, JWTVerifier> byKeyId;
+
+        private Tenant(Map<String, JWTVerifier> byAlgorithm, Map<String, JWTVerifier> byKeyId) {
+            this.byAlgorithm = byAlgorithm;
+            this.byKeyId = byKeyId;
+        }
+
+        Tenant withAlgorithm(String algorithm, JWTVerifier verifier) {
+            Map<String, JWTVerifier> updated = new HashMap<>(byAlgorithm);
+            updated.put(algorithm, verifier);
+            return new Tenant(updated, byKeyId);
+        }
+
+        Tenant withKeyId(String keyId, JWTVerifier verifier) {
+            Map<String, JWTVerifier> updated = new HashMap<>(byKeyId);
+            updated.put(keyId, verifier);
+            return new Tenant(byAlgorithm, updated);
+        }
+
+        Tenant withoutKeyId(String keyId) {
+            if (!byKeyId.containsKey(keyId)) {
+                return this;
+            }
+            Map<String, JWTVerifier> updated = new HashMap<>(byKeyId);
+            updated.remove(keyId);
+            return new Tenant(byAlgorithm, updated);
+        }
+
+        boolean isEmpty() {
+            return byAlgorithm.isEmpty() && byKeyId.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.auth0.jwt;
+
+import com.auth0.jwt.impl.ExpectedCheckHolder;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled check of the Issuer, Subject or JWT Id claim against a set of accepted values.
+ * <p>
+ * The Payload's getters also return the text of claims that aren't JSON strings, such as {@code 123} or
+ * {@code true}, which the regular check rejects. Accepted values that could be the text of such a claim are
+ * therefore left out of the fast path and always go through the regular check.
+ * <p>
+ * This class is thread-safe.
+ */
+final class StringClaimCheck extends CompiledClaimCheck {
+
+    private static final Pattern NON_STRING_TEXT = Pattern.compile("|true|false|-?[0-9].*");
+
+    private final String claimName;
+    private final Set<String> values;
+
+    StringClaimCheck(ExpectedCheckHolder check, Collection<String> values) {
+        super(check);
+        this.claimName = check.getClaimName();
+        this.values = values == null ? Collections.emptySet() : unambiguous(values);
+    }
+
+    @Override
+    boolean matches(DecodedJWT decodedJWT) {
+        String value = valueOf(decodedJWT);
+        return value != null && values.contains(value);
+    }
+
+    private String valueOf(DecodedJWT decodedJWT) {
+        switch (claimName) {
+            case RegisteredClaims.ISSUER:
+                return decodedJWT.getIssuer();
+            case RegisteredClaims.SUBJECT:
+                return decodedJWT.getSubject();
+            default:
+                return decodedJWT.getId();
+        }
+    }
+
+    private static Set<String> unambiguous(Collection<String> values) {
+        Set<String> set = new HashSet<>();
+        for (String value : values) {
+            if (value != null && !NON_STRING_TEXT.matcher(value).matches()) {
+                set.add(value);
+            }
+        }
+        return set;
+    }
+}
@@ -0,0 +1,93 @@
+package com.auth0.jwt;
+
+import com.auth0.jwt.exceptions.IncorrectClaimException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.impl.ExpectedCheckHolder;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.Payload;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.function.ToLongFunction;
+
+/**
+ * Check of a date-time claim against the current time, with a leeway in seconds. The current time can be given
+ * by the caller, so that a batch of tokens is checked against a single read of the clock. The claim is read with
+ * the Payload's epoch second getters and compared as a primitive.
+ * <p>
+ * This class is thread-safe.
+ */
+final class TimeClaimCheck implements ExpectedCheckHolder {
+
+    private final String claimName;
+    private final ToLongFunction<Payload> epochSecond;
+    private final long leeway;
+    private final boolean shouldBeFuture;
+    private final Clock clock;
+
+    TimeClaimCheck(String claimName, long leeway, boolean shouldBeFuture, Clock clock) {
+        this.claimName = claimName;
+        this.epochSecond = epochSecondOf(claimName);
+        this.leeway = leeway;
+        this.shouldBeFuture = shouldBeFuture;
+        this.clock = clock;
+    }
+
+    @Override
+    public String getClaimName() {
+        return claimName;
+    }
+
+    @Override
+    public boolean verify(Claim claim, DecodedJWT decodedJWT) {
+        return verify(decodedJWT, clock.millis());
+    }
+
+    boolean verify(DecodedJWT decodedJWT, long nowMillis) {
+        long claimVal = epochSecond.applyAsLong(decodedJWT);
+        if (claimVal == Payload.MISSING_NUMERIC_DATE) {
+            return true;
+        }
+        long now = Math.floorDiv(nowMillis, 1000L);
+        if (shouldBeFuture) {
+            if (claimVal <= saturatedSubtract(now, leeway)) {
+                Instant expiredOn = Instant.ofEpochSecond(claimVal);
+                throw new TokenExpiredException(String.format("The Token has expired on %s.", expiredOn), expiredOn);
+            }
+        } else {
+            if (claimVal > saturatedAdd(now, leeway)) {
+                throw new IncorrectClaimException(
+                        String.format("The Token can't be used before %s.", Instant.ofEpochSecond(claimVal)),
+                        claimName, decodedJWT.getClaim(claimName));
+            }
+        }
+        return true;
+    }
+
+    private static long saturatedSubtract(long value, long leeway) {
+        long result = value - leeway;
+        return result > value ? Long.MIN_VALUE : result;
+    }
+
+    private static long saturatedAdd(long value, long leeway) {
+        long result = value + leeway;
+        return result < value ? Long.MAX_VALUE : result;
+    }
+
+    private static ToLongFunction<Payload> epochSecondOf(String claimName) {
+        switch (claimName) {
+            case RegisteredClaims.EXPIRES_AT:
+                return Payload::getExpiresAtEpochSecond;
+            case RegisteredClaims.NOT_BEFORE:
+                return Payload::getNotBeforeEpochSecond;
+            case RegisteredClaims.ISSUED_AT:
+                return Payload::getIssuedAtEpochSecond;
+            default:
+                return payload -> {
+                    Instant instant = payload.getClaim(claimName).asInstant();
+                    return instant != null ? instant.getEpochSecond() : Payload.MISSING_NUMERIC_DATE;
+                };
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.auth0.jwt;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTCreationException;
+import com.auth0.jwt.exceptions.SignatureGenerationException;
+import com.auth0.jwt.impl.ClaimsHolder;
+import com.auth0.jwt.impl.ClaimsSerializer;
+import com.auth0.jwt.impl.JWTEvents;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer in which a token is assembled: the JSON of each part is written straight into it and
+ * Base64url encoded in place, the signing input is signed from it without a copy, and the complete token leaves
+ * it with a single copy, either as a String or into a caller's {@link ByteBuffer}.
+ * <p>
+ * The JSON is written by the claims serializers with a generator that writes into this buffer and is kept along
+ * with it, so that neither the generator nor the ObjectMapper's serialization context is created for each token.
+ * <p>
+ * Each thread reuses its own buffer through {@link #acquire()} and {@link #release()}. Buffers that grew past
+ * {@value #MAX_RETAINED_CAPACITY} bytes are not kept.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class TokenBuffer extends OutputStream {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+    private static final byte[] BASE64_URL = ("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_")
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final ThreadLocal<TokenBuffer> buffers = ThreadLocal.withInitial(TokenBuffer::new);
+
+    private byte[] bytes;
+    private int size;
+    private boolean inUse;
+    private JsonGenerator generator;
+
+    private TokenBuffer() {
+        this.bytes = new byte[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns this thread's empty buffer, or a new one if this thread's buffer is already in use.
+     */
+    static TokenBuffer acquire() {
+        TokenBuffer buffer = buffers.get();
+        if (buffer.inUse) {
+            return new TokenBuffer();
+        }
+        buffer.inUse = true;
+        return buffer;
+    }
+
+    /**
+     * Empties this buffer so that its thread can reuse it.
+     */
+    void release() {
+        size = 0;
+        inUse = false;
+        if (bytes.length > MAX_RETAINED_CAPACITY) {
+            bytes = new byte[INITIAL_CAPACITY];
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Discards the bytes written after the given position.
+     */
+    void truncate(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Replaces the byte already written at the given position.
+     */
+    void set(int position, int b) {
+        bytes[position] = (byte) b;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(size + 1);
+        bytes[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(size + len);
+        System.arraycopy(b, off, bytes, size, len);
+        size += len;
+    }
+
+    /**
+     * Writes the claims as UTF-8 JSON with the given serializer. Values the serializer doesn't write itself are
+     * serialized by the given mapper.
+     */
+    <T extends ClaimsHolder> void writeJson(ObjectMapper mapper, ClaimsSerializer<T> serializer, T claims)
+            throws JWTCreationException {
+        try {
+            JsonGenerator gen = generator;
+            if (gen == null) {
+                gen = mapper.getFactory().createGenerator(this);
+                // the claims are written one JSON object at a time, without separators
+                gen.setRootValueSeparator(null);
+                generator = gen;
+            }
+            serializer.serialize(claims, gen, null);
+            gen.flush();
+        } catch (IOException | RuntimeException e) {
+            // the generator may have been left in the middle of a value
+            generator = null;
+            throw new JWTCreationException("Some of the Claims couldn't be converted to a valid JSON format.", e);
+        }
+    }
+
+    /**
+     * Replaces the bytes written since the given position with their Base64url encoding, without padding.
+     * The groups are encoded from the last one, so that each group is read before it's overwritten.
+     */
+    void encodeFrom(int start) {
+        int length = size - start;
+        int encodedLength = encodedLength(length);
+        ensureCapacity(start + encodedLength);
+        int remainder = length % 3;
+        int in = start + length - remainder;
+        int out = start + encodedLength - (remainder == 0 ? 0 : remainder + 1);
+        if (remainder == 1) {
+            int b0 = bytes[in] & 0xff;
+            bytes[out] = BASE64_URL[b0 >>> 2];
+            bytes[out + 1] = BASE64_URL[(b0 << 4) & 0x3f];
+        } else if (remainder == 2) {
+            int b0 = bytes[in] & 0xff;
+            int b1 = bytes[in + 1] & 0xff;
+            bytes[out] = BASE64_URL[b0 >>> 2];
+            bytes[out + 1] = BASE64_URL[((b0 << 4) | (b1 >>> 4)) & 0x3f];
+            bytes[out + 2] = BASE64_URL[(b1 << 2) & 0x3f];
+        }
+        while (in > start) {
+            in -= 3;
+            out -= 4;
+            int bits = (bytes[in] & 0xff) << 16 | (bytes[in + 1] & 0xff) << 8 | (bytes[in + 2] & 0xff);
+            bytes[out] = BASE64_URL[bits >>> 18];
+            bytes[out + 1] = BASE64_URL[(bits >>> 12) & 0x3f];
+            bytes[out + 2] = BASE64_URL[(bits >>> 6) & 0x3f];
+            bytes[out + 3] = BASE64_URL[bits & 0x3f];
+        }
+        size = start + encodedLength;
+    }
+
+    /**
+     * Signs everything written so far with the given algorithm, and appends a '.' and the encoded signature.
+     * <p>
+     * The signing event reports the length of the signed token, or -1 if signing failed and there's no token.
+     */
+    void appendSignature(Algorithm algorithm) throws SignatureGenerationException {
+        Object event = JWTEvents.beginSigning();
+        int tokenLength = -1;
+        Throwable failure = null;
+        try {
+            byte[] signature = algorithm.sign(bytes, 0, size);
+            write('.');
+            int start = size;
+            write(signature, 0, signature.length);
+            encodeFrom(start);
+            tokenLength = size;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (event != null) {
+                JWTEvents.end(event, algorithm.getName(), algorithm.getSigningKeyId(), tokenLength, failure);
+            }
+        }
+    }
+
+    /**
+     * Copies the content of this buffer into the given one.
+     *
+     * @return the number of bytes copied.
+     * @throws BufferOverflowException if the target doesn't have enough space remaining.
+     */
+    int copyTo(ByteBuffer target) throws BufferOverflowException {
+        target.put(bytes, 0, size);
+        return size;
+    }
+
+    /**
+     * Copies the content of this buffer to the given stream.
+     */
+    void copyTo(ByteArrayOutputStream out) {
+        out.write(bytes, 0, size);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, 0, size, StandardCharsets.US_ASCII);
+    }
+
+    private static int encodedLength(int length) {
+        return (length / 3) * 4 + (length % 3 == 0 ? 0 : length % 3 + 1);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+        }
+    }
+}
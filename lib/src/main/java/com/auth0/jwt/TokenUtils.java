@@ -2,6 +2,8 @@ package com.auth0.jwt;
 
 import com.auth0.jwt.exceptions.JWTDecodeException;
 
+import java.nio.ByteBuffer;
+
 abstract class TokenUtils {
 
     /**
@@ -41,6 +43,48 @@ abstract class TokenUtils {
         return parts;
     }
 
+    /**
+     * Finds the two "." chars that separate the 3 parts of the token held between the buffer's position and
+     * its limit. The buffer's position and limit are left untouched.
+     *
+     * @param token the buffer holding the ASCII bytes of the token.
+     * @return the absolute indexes of the first and second "." chars in the buffer.
+     * @throws JWTDecodeException if the Token doesn't have 3 parts.
+     */
+    static int[] splitToken(ByteBuffer token) throws JWTDecodeException {
+        if (token == null) {
+            throw new JWTDecodeException("The token is null.");
+        }
+
+        byte delimiter = '.';
+
+        int firstPeriodIndex = indexOf(token, delimiter, token.position());
+        if (firstPeriodIndex == -1) {
+            throw wrongNumberOfParts(0);
+        }
+
+        int secondPeriodIndex = indexOf(token, delimiter, firstPeriodIndex + 1);
+        if (secondPeriodIndex == -1) {
+            throw wrongNumberOfParts(2);
+        }
+
+        // too many ?
+        if (indexOf(token, delimiter, secondPeriodIndex + 1) != -1) {
+            throw wrongNumberOfParts("> 3");
+        }
+
+        return new int[]{firstPeriodIndex, secondPeriodIndex};
+    }
+
+    private static int indexOf(ByteBuffer buffer, byte value, int fromIndex) {
+        for (int i = fromIndex; i < buffer.limit(); i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     private static JWTDecodeException wrongNumberOfParts(Object partCount) {
         return new JWTDecodeException(String.format("The token was expected to have 3 parts, but got %s.", partCount));
     }
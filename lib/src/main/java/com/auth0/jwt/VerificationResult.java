@@ -0,0 +1,83 @@
+package com.auth0.jwt;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+/**
+ * The outcome of verifying one token of a batch: either the verified and decoded JWT, or the reason the
+ * verification failed.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @see com.auth0.jwt.interfaces.JWTVerifier#verifyAll(java.util.List)
+ */
+public final class VerificationResult {
+
+    private final String token;
+    private final DecodedJWT decodedJWT;
+    private final JWTVerificationException exception;
+
+    private VerificationResult(String token, DecodedJWT decodedJWT, JWTVerificationException exception) {
+        this.token = token;
+        this.decodedJWT = decodedJWT;
+        this.exception = exception;
+    }
+
+    /**
+     * Creates the result of a token that was successfully verified.
+     *
+     * @param token      the verified token.
+     * @param decodedJWT the verified and decoded JWT.
+     * @return a successful result.
+     */
+    public static VerificationResult success(String token, DecodedJWT decodedJWT) {
+        return new VerificationResult(token, decodedJWT, null);
+    }
+
+    /**
+     * Creates the result of a token that failed verification.
+     *
+     * @param token     the token that failed verification.
+     * @param exception the reason the verification failed.
+     * @return a failed result.
+     */
+    public static VerificationResult failure(String token, JWTVerificationException exception) {
+        return new VerificationResult(token, null, exception);
+    }
+
+    /**
+     * Getter for the token this result is about.
+     *
+     * @return the token, as it was given.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Whether the token was successfully verified.
+     *
+     * @return true if the token is valid, false otherwise.
+     */
+    public boolean isValid() {
+        return exception == null;
+    }
+
+    /**
+     * Getter for the verified and decoded JWT.
+     *
+     * @return the decoded JWT, or null if the verification failed.
+     */
+    public DecodedJWT getDecodedJWT() {
+        return decodedJWT;
+    }
+
+    /**
+     * Getter for the reason the verification failed.
+     *
+     * @return the exception thrown by the verification, or null if it succeeded.
+     */
+    public JWTVerificationException getException() {
+        return exception;
+    }
+}
@@ -0,0 +1,129 @@
+package com.auth0.jwt;
+
+/**
+ * The time spent in each stage of the verification of one token, in nanoseconds, as reported to a
+ * {@link com.auth0.jwt.interfaces.VerificationListener}.
+ * <p>
+ * The stages run in order: the token is decoded, its Public Key is looked up, its signature is verified, and its
+ * claims are checked. Stages that were skipped, or not reached because an earlier stage failed, took zero
+ * nanoseconds. A token served from the verified token cache is neither decoded nor verified again, only its claims
+ * are checked. When a stage fails, the time spent until the failure is reported as that stage's time.
+ * <p>
+ * Instances are only modified by the verifier, before they are reported.
+ */
+public final class VerificationTimings {
+
+    private static final int DECODE = 0;
+    private static final int SIGNATURE = 1;
+    private static final int CLAIMS = 2;
+
+    private long decodeNanos;
+    private long keyLookupNanos;
+    private long signatureNanos;
+    private long claimsNanos;
+    private int stage;
+    private long stageStart;
+
+    VerificationTimings() {
+        this.stageStart = System.nanoTime();
+    }
+
+    /**
+     * Getter for the time spent decoding the token's Base64url parts and JSON.
+     *
+     * @return the decoding time in nanoseconds.
+     */
+    public long getDecodeNanos() {
+        return decodeNanos;
+    }
+
+    /**
+     * Getter for the time spent obtaining the Public Key from the Algorithm's Key Provider.
+     * It's zero for algorithms that don't use a Key Provider and for asynchronous verifications, in which the
+     * lookup is part of the signature time.
+     *
+     * @return the key lookup time in nanoseconds.
+     */
+    public long getKeyLookupNanos() {
+        return keyLookupNanos;
+    }
+
+    /**
+     * Getter for the time spent checking the token's algorithm and verifying its signature, without the key lookup.
+     *
+     * @return the signature verification time in nanoseconds.
+     */
+    public long getSignatureNanos() {
+        return signatureNanos;
+    }
+
+    /**
+     * Getter for the time spent checking the token's claims, including the revocation check.
+     *
+     * @return the claims verification time in nanoseconds.
+     */
+    public long getClaimsNanos() {
+        return claimsNanos;
+    }
+
+    /**
+     * Getter for the time spent in all the stages.
+     *
+     * @return the total verification time in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return decodeNanos + keyLookupNanos + signatureNanos + claimsNanos;
+    }
+
+    void keyLookup(long nanos) {
+        keyLookupNanos += nanos;
+    }
+
+    /**
+     * Starts the signature stage, with the time since the last stage ended counted as decoding time.
+     */
+    void decoded() {
+        end();
+        stage = SIGNATURE;
+    }
+
+    /**
+     * Starts the signature stage of a token that was decoded before the verification.
+     */
+    void alreadyDecoded() {
+        stageStart = System.nanoTime();
+        stage = SIGNATURE;
+    }
+
+    /**
+     * Starts the claims stage, with the time since the last stage ended counted as signature time.
+     */
+    void signatureVerified() {
+        end();
+        stage = CLAIMS;
+    }
+
+    /**
+     * Starts the claims stage of a token served from the verified token cache.
+     */
+    void cached() {
+        stage = CLAIMS;
+    }
+
+    /**
+     * Counts the time since the last stage ended as time of the current stage.
+     */
+    void end() {
+        long now = System.nanoTime();
+        long elapsed = now - stageStart;
+        stageStart = now;
+        if (stage == DECODE) {
+            decodeNanos += elapsed;
+        } else if (stage == SIGNATURE) {
+            // the key lookup was reported on its own
+            signatureNanos += Math.max(0, elapsed - keyLookupNanos);
+        } else {
+            claimsNanos += elapsed;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.auth0.jwt;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of tokens that already passed a full verification, keyed by the token itself.
+ * <p>
+ * Entries expire after the configured time to live or at the token's Expires At, whichever comes first.
+ * When the cache is full, the oldest entry is evicted to make room for the new one. Expired entries are
+ * removed when they are looked up, and by a sweep of the whole cache that runs at most once every
+ * {@code maxSize} insertions, so that a full cache doesn't scan its entries on every insertion.
+ * <p>
+ * Lookups never block. Insertions are serialized, so that the cache never holds more than {@code maxSize}
+ * entries.
+ * <p>
+ * This class is thread-safe.
+ */
+final class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+    // the entries in insertion order, guarded by itself; every entry in entries is in it, and the entries that
+    // expired or were replaced since they were stored stay in it until they are polled or swept
+    private final ArrayDeque<Entry> order;
+    private int insertionsSinceSweep;
+    private int sweeps;
+
+    VerifiedTokenCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.entries = new ConcurrentHashMap<>();
+        this.order = new ArrayDeque<>();
+    }
+
+    /**
+     * Returns the verified JWT for the given token, or null if it's not cached or its entry has expired.
+     */
+    DecodedJWT get(String token, long nowMillis) {
+        Entry entry = token != null ? entries.get(token) : null;
+        if (entry == null) {
+            return null;
+        }
+        if (nowMillis >= entry.deadlineMillis) {
+            entries.remove(token, entry);
+            return null;
+        }
+        return entry.jwt;
+    }
+
+    /**
+     * Stores a token that passed the full verification.
+     */
+    void put(String token, DecodedJWT jwt, long nowMillis) {
+        long deadline = nowMillis + ttlMillis;
+        Instant expiresAt = jwt.getExpiresAtAsInstant();
+        if (expiresAt != null) {
+            deadline = Math.min(deadline, expiresAt.toEpochMilli());
+        }
+        if (deadline <= nowMillis) {
+            return;
+        }
+        Entry entry = new Entry(token, jwt, deadline);
+        synchronized (order) {
+            entries.put(token, entry);
+            order.addLast(entry);
+            if (order.size() <= maxSize) {
+                return;
+            }
+            if (++insertionsSinceSweep >= maxSize) {
+                insertionsSinceSweep = 0;
+                sweep(nowMillis);
+            }
+            while (order.size() > maxSize) {
+                Entry oldest = order.pollFirst();
+                entries.remove(oldest.token, oldest);
+            }
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    int sweeps() {
+        synchronized (order) {
+            return sweeps;
+        }
+    }
+
+    /**
+     * Removes the expired entries, and the entries that are no longer cached, from the insertion order.
+     */
+    private void sweep(long nowMillis) {
+        sweeps++;
+        Iterator<Entry> stored = order.iterator();
+        while (stored.hasNext()) {
+            Entry entry = stored.next();
+            if (nowMillis >= entry.deadlineMillis || entries.get(entry.token) != entry) {
+                entries.remove(entry.token, entry);
+                stored.remove();
+            }
+        }
+    }
+
+    private static final class Entry {
+        final String token;
+        final DecodedJWT jwt;
+        final long deadlineMillis;
+
+        Entry(String token, DecodedJWT jwt, long deadlineMillis) {
+            this.token = token;
+            this.jwt = jwt;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
@@ -2,13 +2,24 @@ package com.auth0.jwt.algorithms;
 
 import com.auth0.jwt.exceptions.SignatureGenerationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.impl.JWTEvents;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.ECDSAKeyProvider;
+import com.auth0.jwt.interfaces.EdDSAKeyProvider;
 import com.auth0.jwt.interfaces.RSAKeyProvider;
 
+import java.security.PrivateKey;
+import java.security.PublicKey;
 import java.security.interfaces.*;
 import java.security.spec.MGF1ParameterSpec;
 import java.security.spec.PSSParameterSpec;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 
 /**
  * The Algorithm class represents an algorithm to be used in the Signing or Verification process of a Token.
@@ -436,6 +447,32 @@ public abstract class Algorithm {
         return ECDSA512(publicKey, privateKey);
     }
 
+    /**
+     * Creates a new Algorithm instance using EdDSA, with the Ed25519 or Ed448 curve of the given keys.
+     * Tokens specify this as "EdDSA". It requires Java 15 or later, or a security provider supporting EdDSA.
+     *
+     * @param keyProvider the provider of the Public Key and Private Key for the verify and signing instance.
+     * @return a valid EdDSA Algorithm.
+     * @throws IllegalArgumentException if the Key Provider is null.
+     */
+    public static Algorithm EdDSA(EdDSAKeyProvider keyProvider) throws IllegalArgumentException {
+        return new EdDSAAlgorithm("EdDSA", "EdDSA", keyProvider);
+    }
+
+    /**
+     * Creates a new Algorithm instance using EdDSA, with the Ed25519 or Ed448 curve of the given keys.
+     * Tokens specify this as "EdDSA". It requires Java 15 or later, or a security provider supporting EdDSA.
+     *
+     * @param publicKey  the key to use in the verify instance.
+     * @param privateKey the key to use in the signing instance.
+     * @return a valid EdDSA Algorithm.
+     * @throws IllegalArgumentException if both provided Keys are null, or if either is not an EdDSA, Ed25519 or
+     *                                  Ed448 key.
+     */
+    public static Algorithm EdDSA(PublicKey publicKey, PrivateKey privateKey) throws IllegalArgumentException {
+        return EdDSA(EdDSAAlgorithm.providerForKeys(publicKey, privateKey));
+    }
+
 
     public static Algorithm none() {
         return new NoneAlgorithm();
@@ -456,6 +493,18 @@ public abstract class Algorithm {
         return null;
     }
 
+    /**
+     * Returns an instance of this Algorithm that signs with the Private Key and Key Id its key provider returns
+     * at the time of this call, so that a batch of tokens is signed after a single key lookup and all of them
+     * carry the same Key Id. Verification still looks up the Public Key for each token.
+     * By default, and for the algorithms without a key provider, it returns this same instance.
+     *
+     * @return an Algorithm that signs with the current signing key.
+     */
+    public Algorithm withCurrentSigningKey() {
+        return this;
+    }
+
     /**
      * Getter for the name of this Algorithm, as defined in the JWT Standard. i.e. "HS256"
      *
@@ -490,6 +539,82 @@ public abstract class Algorithm {
      */
     public abstract void verify(DecodedJWT jwt) throws SignatureVerificationException;
 
+    /**
+     * Verify the given token using this Algorithm instance, reporting how long it took to obtain the Public Key.
+     * Algorithms using a Key Provider report the time spent in {@link RSAKeyProvider#getPublicKeyById(String)}
+     * to the given consumer, in nanoseconds, once the key was found. By default, it calls
+     * {@link #verify(DecodedJWT)} and reports nothing.
+     *
+     * @param jwt            the already decoded JWT that it's going to be verified.
+     * @param keyLookupNanos the consumer of the time spent obtaining the Public Key.
+     * @throws SignatureVerificationException if the Token's Signature is invalid,
+     *                                        meaning that it doesn't match the signatureBytes,
+     *                                        or if the Key is invalid.
+     */
+    public void verify(DecodedJWT jwt, LongConsumer keyLookupNanos) throws SignatureVerificationException {
+        verify(jwt);
+    }
+
+    /**
+     * Verify the given token using this Algorithm instance, without blocking the calling thread.
+     * The signature is verified on the given executor. Algorithms using a Key Provider first look up the
+     * Public Key with {@link RSAKeyProvider#getPublicKeyByIdAsync(String)}, so that providers needing I/O
+     * to find the key don't block a thread while waiting for it.
+     *
+     * @param jwt      the already decoded JWT that it's going to be verified.
+     * @param executor the executor to verify the signature on.
+     * @return a future completed once the signature was verified, or completed exceptionally with a
+     *         {@link SignatureVerificationException} if the Token's Signature or the Key is invalid.
+     * @throws IllegalArgumentException if the executor is null.
+     */
+    public CompletableFuture<Void> verifyAsync(DecodedJWT jwt, Executor executor) throws IllegalArgumentException {
+        assertNonNull(executor);
+        return CompletableFuture.runAsync(() -> verify(jwt), executor);
+    }
+
+    /**
+     * Waits for the given Public Key lookup and then verifies the signature with the found key on the executor.
+     * A lookup failing with an {@link IllegalArgumentException} or {@link IllegalStateException} fails the
+     * verification with a {@link SignatureVerificationException}, as it does when verifying synchronously.
+     */
+    <K> CompletableFuture<Void> verifyAsync(Supplier<CompletableFuture<K>> publicKeyLookup, Executor executor,
+                                            Consumer<K> verification) throws IllegalArgumentException {
+        assertNonNull(executor);
+        CompletableFuture<K> publicKey;
+        try {
+            publicKey = publicKeyLookup.get();
+        } catch (RuntimeException e) {
+            publicKey = new CompletableFuture<>();
+            publicKey.completeExceptionally(e);
+        }
+        return publicKey.handleAsync((key, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                if (cause instanceof IllegalArgumentException || cause instanceof IllegalStateException) {
+                    throw new SignatureVerificationException(this, cause);
+                }
+                throw error instanceof CompletionException
+                        ? (CompletionException) error : new CompletionException(error);
+            }
+            verification.accept(key);
+            return null;
+        }, executor);
+    }
+
+    /**
+     * Ends the given Flight Recorder event of an operation of this algorithm on the given token.
+     */
+    void endEvent(Object event, DecodedJWT jwt, Throwable failure) {
+        JWTEvents.end(event, getName(), jwt.getKeyId(), JWTEvents.tokenLength(jwt), failure);
+    }
+
+    private static void assertNonNull(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("The Executor cannot be null.");
+        }
+    }
+
     /**
      * Sign the given content using this Algorithm instance.
      *
@@ -523,4 +648,22 @@ public abstract class Algorithm {
 
     public abstract byte[] sign(byte[] contentBytes) throws SignatureGenerationException;
 
+    /**
+     * Sign a range of the given content using this Algorithm instance, without copying it.
+     * To get the correct JWT Signature, ensure the range is in the format {HEADER}.{PAYLOAD}
+     *
+     * @param contentBytes an array of bytes containing the base64 encoded content to be signed.
+     * @param offset       the position of the first byte to sign.
+     * @param length       the number of bytes to sign.
+     * @return the signature in a base64 encoded array of bytes
+     * @throws SignatureGenerationException if the Key is invalid.
+     */
+    public byte[] sign(byte[] contentBytes, int offset, int length) throws SignatureGenerationException {
+        // default implementation for algorithms that can only sign a whole array
+        if (offset == 0 && length == contentBytes.length) {
+            return sign(contentBytes);
+        }
+        return sign(Arrays.copyOfRange(contentBytes, offset, offset + length));
+    }
+
 }
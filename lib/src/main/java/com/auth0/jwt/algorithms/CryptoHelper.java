@@ -9,12 +9,27 @@ import java.security.spec.AlgorithmParameterSpec;
 /**
  * Class used to perform the signature hash calculations.
  * <p>
+ * HMAC instances are kept per thread, already initialized with the last secret they were used with, so that
+ * repeated calls with the same secret skip the provider lookup and the key setup. In the same way, each thread
+ * keeps the Signatures it last verified with, up to {@value #VERIFIERS_PER_THREAD} of them, each bound to its
+ * algorithm and public key instance, so that tokens signed with the different keys of a key set can be verified
+ * interleaved on the same thread. The last Signature used by each thread to sign is kept bound to its private key.
+ * A signing key provider that rotates its key returns a new key instance, which binds a new Signature.
+ * <p>
  * This class is thread-safe.
  */
 class CryptoHelper {
 
     private static final byte JWT_PART_SEPARATOR = (byte) 46;
 
+    private final ThreadLocal<MacHolder> macs = new ThreadLocal<>();
+    private static final int VERIFIERS_PER_THREAD = 8;
+
+    // this thread's verifiers, the most recently used first
+    private final ThreadLocal<SignatureHolder[]> verifiers =
+            ThreadLocal.withInitial(() -> new SignatureHolder[VERIFIERS_PER_THREAD]);
+    private final ThreadLocal<SignatureHolder> signers = new ThreadLocal<>();
+
     /**
      * Verify signature for JWT header and payload.
      *
@@ -154,13 +169,16 @@ class CryptoHelper {
             byte[] payloadBytes,
             byte[] signatureBytes
     ) throws NoSuchAlgorithmException, InvalidKeyException, SignatureException {
-        final Signature s = Signature.getInstance(algorithm);
-        setParameterIfPresent(s, params);
-        s.initVerify(publicKey);
-        s.update(headerBytes);
-        s.update(JWT_PART_SEPARATOR);
-        s.update(payloadBytes);
-        return s.verify(signatureBytes);
+        final Signature s = getVerifier(algorithm, publicKey, params);
+        try {
+            s.update(headerBytes);
+            s.update(JWT_PART_SEPARATOR);
+            s.update(payloadBytes);
+            return s.verify(signatureBytes);
+        } catch (SignatureException | RuntimeException e) {
+            discardVerifier(s);
+            throw e;
+        }
     }
 
     /**
@@ -206,13 +224,16 @@ class CryptoHelper {
             byte[] headerBytes,
             byte[] payloadBytes
     ) throws NoSuchAlgorithmException, InvalidKeyException, SignatureException {
-        final Signature s = Signature.getInstance(algorithm);
-        setParameterIfPresent(s, params);
-        s.initSign(privateKey);
-        s.update(headerBytes);
-        s.update(JWT_PART_SEPARATOR);
-        s.update(payloadBytes);
-        return s.sign();
+        final Signature s = getSigner(algorithm, privateKey, params);
+        try {
+            s.update(headerBytes);
+            s.update(JWT_PART_SEPARATOR);
+            s.update(payloadBytes);
+            return s.sign();
+        } catch (SignatureException | RuntimeException e) {
+            signers.remove();
+            throw e;
+        }
     }
 
     /**
@@ -232,11 +253,15 @@ class CryptoHelper {
             byte[] headerBytes,
             byte[] payloadBytes
     ) throws NoSuchAlgorithmException, InvalidKeyException {
-        final Mac mac = Mac.getInstance(algorithm);
-        mac.init(new SecretKeySpec(secretBytes, algorithm));
-        mac.update(headerBytes);
-        mac.update(JWT_PART_SEPARATOR);
-        return mac.doFinal(payloadBytes);
+        final Mac mac = getMac(algorithm, secretBytes);
+        try {
+            mac.update(headerBytes);
+            mac.update(JWT_PART_SEPARATOR);
+            return mac.doFinal(payloadBytes);
+        } catch (RuntimeException e) {
+            mac.reset();
+            throw e;
+        }
     }
 
     /**
@@ -252,9 +277,38 @@ class CryptoHelper {
      */
     byte[] createSignatureFor(String algorithm, byte[] secretBytes, byte[] contentBytes)
             throws NoSuchAlgorithmException, InvalidKeyException {
-        final Mac mac = Mac.getInstance(algorithm);
-        mac.init(new SecretKeySpec(secretBytes, algorithm));
-        return mac.doFinal(contentBytes);
+        final Mac mac = getMac(algorithm, secretBytes);
+        try {
+            return mac.doFinal(contentBytes);
+        } catch (RuntimeException e) {
+            mac.reset();
+            throw e;
+        }
+    }
+
+    /**
+     * Create signature for a range of the given content.
+     * To get the correct JWT Signature, ensure the range is in the format {HEADER}.{PAYLOAD}
+     *
+     * @param algorithm    algorithm name.
+     * @param secretBytes  algorithm secret.
+     * @param contentBytes the array containing the content to be signed.
+     * @param offset       the position of the first byte to sign.
+     * @param length       the number of bytes to sign.
+     * @return the signature bytes.
+     * @throws NoSuchAlgorithmException if the algorithm is not supported.
+     * @throws InvalidKeyException      if the given key is inappropriate for initializing the specified algorithm.
+     */
+    byte[] createSignatureFor(String algorithm, byte[] secretBytes, byte[] contentBytes, int offset, int length)
+            throws NoSuchAlgorithmException, InvalidKeyException {
+        final Mac mac = getMac(algorithm, secretBytes);
+        try {
+            mac.update(contentBytes, offset, length);
+            return mac.doFinal();
+        } catch (RuntimeException e) {
+            mac.reset();
+            throw e;
+        }
     }
 
     /**
@@ -299,11 +353,127 @@ class CryptoHelper {
             AlgorithmParameterSpec params,
             byte[] contentBytes
     ) throws NoSuchAlgorithmException, InvalidKeyException, SignatureException {
+        final Signature s = getSigner(algorithm, privateKey, params);
+        try {
+            s.update(contentBytes);
+            return s.sign();
+        } catch (SignatureException | RuntimeException e) {
+            signers.remove();
+            throw e;
+        }
+    }
+
+    /**
+     * Create signature for a range of the given content using a private key and algorithm parameters.
+     * To get the correct JWT Signature, ensure the range is in the format {HEADER}.{PAYLOAD}
+     *
+     * @param algorithm    algorithm name.
+     * @param privateKey   the private key to use for signing.
+     * @param params       the algorithm parameters, or null to use the algorithm defaults.
+     * @param contentBytes the array containing the content to be signed.
+     * @param offset       the position of the first byte to sign.
+     * @param length       the number of bytes to sign.
+     * @return the signature bytes.
+     * @throws NoSuchAlgorithmException if the algorithm is not supported.
+     * @throws InvalidKeyException      if the given key is inappropriate for initializing the specified algorithm.
+     * @throws SignatureException       if this signature object is not initialized properly
+     *                                  or if this signature algorithm is unable to process the input data provided.
+     */
+    byte[] createSignatureFor(
+            String algorithm,
+            PrivateKey privateKey,
+            AlgorithmParameterSpec params,
+            byte[] contentBytes,
+            int offset,
+            int length
+    ) throws NoSuchAlgorithmException, InvalidKeyException, SignatureException {
+        final Signature s = getSigner(algorithm, privateKey, params);
+        try {
+            s.update(contentBytes, offset, length);
+            return s.sign();
+        } catch (SignatureException | RuntimeException e) {
+            signers.remove();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns this thread's Mac for the given algorithm and secret, creating and initializing a new one if the
+     * last one used by this thread was for a different algorithm or secret array. The secret is matched by
+     * reference, as callers pass the array their algorithm owns and never modifies, so it is neither copied nor
+     * compared. {@link Mac#doFinal()} leaves the instance reset and ready for the next use.
+     * <p>
+     * The initialized Mac, which holds its own copy of the key, is kept by the thread until it signs with another
+     * algorithm or secret through this helper, or until this helper is no longer reachable and the thread drops
+     * its stale thread-local entries.
+     */
+    private Mac getMac(String algorithm, byte[] secretBytes) throws NoSuchAlgorithmException, InvalidKeyException {
+        MacHolder holder = macs.get();
+        if (holder != null && holder.secretBytes == secretBytes && holder.algorithm.equals(algorithm)) {
+            return holder.mac;
+        }
+        final Mac mac = Mac.getInstance(algorithm);
+        mac.init(new SecretKeySpec(secretBytes, algorithm));
+        macs.set(new MacHolder(algorithm, secretBytes, mac));
+        return mac;
+    }
+
+    /**
+     * Returns this thread's Signature initialized for verification with the given key, creating a new one if this
+     * thread has none for the same algorithm, parameters and key instance. The new one replaces the least recently
+     * used one if the thread already keeps {@value #VERIFIERS_PER_THREAD}. A successful
+     * {@link Signature#verify(byte[])} leaves the instance initialized for the next use.
+     */
+    private Signature getVerifier(String algorithm, PublicKey publicKey, AlgorithmParameterSpec params)
+            throws NoSuchAlgorithmException, InvalidKeyException {
+        SignatureHolder[] holders = verifiers.get();
+        int index = 0;
+        while (index < holders.length - 1 && holders[index] != null
+                && !holders[index].matches(algorithm, publicKey, params)) {
+            index++;
+        }
+        SignatureHolder holder = holders[index];
+        if (holder == null || !holder.matches(algorithm, publicKey, params)) {
+            final Signature s = Signature.getInstance(algorithm);
+            setParameterIfPresent(s, params);
+            s.initVerify(publicKey);
+            holder = new SignatureHolder(algorithm, publicKey, params, s);
+        }
+        System.arraycopy(holders, 0, holders, 1, index);
+        holders[0] = holder;
+        return holder.signature;
+    }
+
+    /**
+     * Drops the given Signature from this thread's verifiers, as it may have been left in an unknown state.
+     */
+    private void discardVerifier(Signature signature) {
+        SignatureHolder[] holders = verifiers.get();
+        for (int i = 0; i < holders.length; i++) {
+            if (holders[i] != null && holders[i].signature == signature) {
+                System.arraycopy(holders, i + 1, holders, i, holders.length - i - 1);
+                holders[holders.length - 1] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns this thread's Signature initialized for signing with the given key, creating a new one if the
+     * last one used by this thread was for a different algorithm, parameters or key instance. A successful
+     * {@link Signature#sign()} leaves the instance initialized for the next use.
+     */
+    private Signature getSigner(String algorithm, PrivateKey privateKey, AlgorithmParameterSpec params)
+            throws NoSuchAlgorithmException, InvalidKeyException {
+        SignatureHolder holder = signers.get();
+        if (holder != null && holder.matches(algorithm, privateKey, params)) {
+            return holder.signature;
+        }
         final Signature s = Signature.getInstance(algorithm);
         setParameterIfPresent(s, params);
         s.initSign(privateKey);
-        s.update(contentBytes);
-        return s.sign();
+        signers.set(new SignatureHolder(algorithm, privateKey, params, s));
+        return s;
     }
 
     private static void setParameterIfPresent(Signature s, AlgorithmParameterSpec params)
@@ -320,4 +490,34 @@ class CryptoHelper {
             }
         }
     }
+
+    private static final class MacHolder {
+        final String algorithm;
+        final byte[] secretBytes;
+        final Mac mac;
+
+        MacHolder(String algorithm, byte[] secretBytes, Mac mac) {
+            this.algorithm = algorithm;
+            this.secretBytes = secretBytes;
+            this.mac = mac;
+        }
+    }
+
+    private static final class SignatureHolder {
+        final String algorithm;
+        final Key key;
+        final AlgorithmParameterSpec params;
+        final Signature signature;
+
+        SignatureHolder(String algorithm, Key key, AlgorithmParameterSpec params, Signature signature) {
+            this.algorithm = algorithm;
+            this.key = key;
+            this.params = params;
+            this.signature = signature;
+        }
+
+        boolean matches(String algorithm, Key key, AlgorithmParameterSpec params) {
+            return this.key == key && this.params == params && this.algorithm.equals(algorithm);
+        }
+    }
 }
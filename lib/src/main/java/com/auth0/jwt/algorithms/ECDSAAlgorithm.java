@@ -2,27 +2,46 @@ package com.auth0.jwt.algorithms;
 
 import com.auth0.jwt.exceptions.SignatureGenerationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.impl.JWTEvents;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.ECDSAKeyProvider;
 
-import java.math.BigInteger;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
 import java.security.SignatureException;
 import java.security.interfaces.ECPrivateKey;
 import java.security.interfaces.ECPublicKey;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.LongConsumer;
 
 /**
  * Subclass representing an Elliptic Curve signing algorithm
  * <p>
+ * Signatures are verified in their JOSE form, R and S concatenated, with the provider's "inP1363Format" variant of
+ * the algorithm when one is available. Otherwise, and for public keys that variant doesn't accept, they are
+ * converted to DER first. Either way, R and S are checked to be in range against the order of the curve, which is
+ * kept for the last few public keys used.
+ * <p>
  * This class is thread-safe.
  */
 class ECDSAAlgorithm extends Algorithm {
 
+    private static final String P1363_FORMAT = "inP1363Format";
+    private static final Map<String, Boolean> P1363_SUPPORT = new ConcurrentHashMap<>();
+    private static final int VERIFICATION_KEYS = 8;
+
     private final ECDSAKeyProvider keyProvider;
     private final CryptoHelper crypto;
     private final int ecNumberSize;
+    private final String p1363Description;
+    // the most recently added first, replaced as a whole when a key is added
+    private volatile VerificationKey[] verificationKeys = new VerificationKey[0];
 
     //Visible for testing
     ECDSAAlgorithm(CryptoHelper crypto, String id, String algorithm, int ecNumberSize, ECDSAKeyProvider keyProvider)
@@ -34,6 +53,7 @@ class ECDSAAlgorithm extends Algorithm {
         this.keyProvider = keyProvider;
         this.crypto = crypto;
         this.ecNumberSize = ecNumberSize;
+        this.p1363Description = isP1363Supported(algorithm) ? algorithm + P1363_FORMAT : null;
     }
 
     ECDSAAlgorithm(String id, String algorithm, int ecNumberSize, ECDSAKeyProvider keyProvider)
@@ -43,15 +63,79 @@ class ECDSAAlgorithm extends Algorithm {
 
     @Override
     public void verify(DecodedJWT jwt) throws SignatureVerificationException {
+        verify(jwt, publicKeyFor(jwt));
+    }
+
+    @Override
+    public void verify(DecodedJWT jwt, LongConsumer keyLookupNanos) throws SignatureVerificationException {
+        long start = System.nanoTime();
+        ECPublicKey publicKey = publicKeyFor(jwt);
+        keyLookupNanos.accept(System.nanoTime() - start);
+        verify(jwt, publicKey);
+    }
+
+    @Override
+    public CompletableFuture<Void> verifyAsync(DecodedJWT jwt, Executor executor) throws IllegalArgumentException {
+        return verifyAsync(() -> keyProvider.getPublicKeyByIdAsync(jwt.getKeyId()), executor,
+                publicKey -> verify(jwt, publicKey));
+    }
+
+    private ECPublicKey publicKeyFor(DecodedJWT jwt) throws SignatureVerificationException {
+        Object event = JWTEvents.beginKeyLookup();
+        ECPublicKey publicKey;
+        try {
+            publicKey = keyProvider.getPublicKeyById(jwt.getKeyId());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            SignatureVerificationException failure = new SignatureVerificationException(this, e);
+            if (event != null) {
+                endEvent(event, jwt, failure);
+            }
+            throw failure;
+        }
+        if (event != null) {
+            endEvent(event, jwt, null);
+        }
+        return publicKey;
+    }
+
+    private void verify(DecodedJWT jwt, ECPublicKey publicKey) throws SignatureVerificationException {
+        Object event = JWTEvents.beginSignatureVerification();
+        if (event == null) {
+            verifySignature(jwt, publicKey);
+            return;
+        }
+        try {
+            verifySignature(jwt, publicKey);
+        } catch (SignatureVerificationException e) {
+            endEvent(event, jwt, e);
+            throw e;
+        }
+        endEvent(event, jwt, null);
+    }
+
+    private void verifySignature(DecodedJWT jwt, ECPublicKey publicKey) throws SignatureVerificationException {
         try {
             byte[] signatureBytes = Base64.getUrlDecoder().decode(jwt.getSignature());
-            ECPublicKey publicKey = keyProvider.getPublicKeyById(jwt.getKeyId());
             if (publicKey == null) {
                 throw new IllegalStateException("The given Public Key is null.");
             }
-            validateSignatureStructure(signatureBytes, publicKey);
-            boolean valid = crypto.verifySignatureFor(
-                    getDescription(), publicKey, jwt.getHeader(), jwt.getPayload(), JOSEToDER(signatureBytes));
+            VerificationKey key = verificationKeyFor(publicKey);
+            validateSignatureStructure(signatureBytes, key.order);
+            boolean valid;
+            if (key.p1363) {
+                try {
+                    valid = crypto.verifySignatureFor(
+                            p1363Description, publicKey, jwt.getHeader(), jwt.getPayload(), signatureBytes);
+                } catch (InvalidKeyException e) {
+                    // the provider of the P1363 variant may not be the one this key belongs to
+                    remember(new VerificationKey(publicKey, key.order, false));
+                    valid = crypto.verifySignatureFor(getDescription(), publicKey, jwt.getHeader(),
+                            jwt.getPayload(), JOSEToDER(signatureBytes));
+                }
+            } else {
+                valid = crypto.verifySignatureFor(
+                        getDescription(), publicKey, jwt.getHeader(), jwt.getPayload(), JOSEToDER(signatureBytes));
+            }
 
             if (!valid) {
                 throw new SignatureVerificationException(this);
@@ -90,11 +174,54 @@ class ECDSAAlgorithm extends Algorithm {
         }
     }
 
+    @Override
+    public byte[] sign(byte[] contentBytes, int offset, int length) throws SignatureGenerationException {
+        try {
+            ECPrivateKey privateKey = keyProvider.getPrivateKey();
+            if (privateKey == null) {
+                throw new IllegalStateException("The given Private Key is null.");
+            }
+            byte[] signature = crypto.createSignatureFor(getDescription(), privateKey, null, contentBytes,
+                    offset, length);
+            return DERToJOSE(signature);
+        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException | IllegalStateException e) {
+            throw new SignatureGenerationException(this, e);
+        }
+    }
+
     @Override
     public String getSigningKeyId() {
         return keyProvider.getPrivateKeyId();
     }
 
+    @Override
+    public Algorithm withCurrentSigningKey() {
+        final ECDSAKeyProvider provider = keyProvider;
+        final ECPrivateKey privateKey = provider.getPrivateKey();
+        final String privateKeyId = provider.getPrivateKeyId();
+        return new ECDSAAlgorithm(crypto, getName(), getDescription(), ecNumberSize, new ECDSAKeyProvider() {
+            @Override
+            public ECPublicKey getPublicKeyById(String keyId) {
+                return provider.getPublicKeyById(keyId);
+            }
+
+            @Override
+            public CompletableFuture<ECPublicKey> getPublicKeyByIdAsync(String keyId) {
+                return provider.getPublicKeyByIdAsync(keyId);
+            }
+
+            @Override
+            public ECPrivateKey getPrivateKey() {
+                return privateKey;
+            }
+
+            @Override
+            public String getPrivateKeyId() {
+                return privateKeyId;
+            }
+        });
+    }
+
     //Visible for testing
     byte[] DERToJOSE(byte[] derSignature) throws SignatureException {
         // DER Structure: http://crypto.stackexchange.com/a/1797
@@ -157,26 +284,27 @@ class ECDSAAlgorithm extends Algorithm {
      */
     // Visible for testing
     void validateSignatureStructure(byte[] joseSignature, ECPublicKey publicKey) throws SignatureException {
+        validateSignatureStructure(joseSignature, verificationKeyFor(publicKey).order);
+    }
+
+    /**
+     * Checks the signature's structure in place, with R and S compared byte by byte against the order of the
+     * curve.
+     *
+     * @param joseSignature is the signature from the JWT
+     * @param order         the order of the curve as an unsigned big-endian number of the size of R and S, or
+     *                      null if the order is larger than any number of that size.
+     * @throws SignatureException if the signature's structure is not as per expectation
+     */
+    private void validateSignatureStructure(byte[] joseSignature, byte[] order) throws SignatureException {
         // check signature length, moved this check from JOSEToDER method
         if (joseSignature.length != ecNumberSize * 2) {
             throw new SignatureException("Invalid JOSE signature format.");
         }
 
-        if (isAllZeros(joseSignature)) {
-            throw new SignatureException("Invalid signature format.");
-        }
-
-        // get R
-        byte[] rBytes = new byte[ecNumberSize];
-        System.arraycopy(joseSignature, 0, rBytes, 0, ecNumberSize);
-        if (isAllZeros(rBytes)) {
-            throw new SignatureException("Invalid signature format.");
-        }
-
-        // get S
-        byte[] sBytes = new byte[ecNumberSize];
-        System.arraycopy(joseSignature, ecNumberSize, sBytes, 0, ecNumberSize);
-        if (isAllZeros(sBytes)) {
+        // R and S can't be zero
+        if (isAllZeros(joseSignature, 0, ecNumberSize)
+                || isAllZeros(joseSignature, ecNumberSize, joseSignature.length)) {
             throw new SignatureException("Invalid signature format.");
         }
 
@@ -191,16 +319,9 @@ class ECDSAAlgorithm extends Algorithm {
             throw new SignatureException("Invalid JOSE signature format.");
         }
 
-        BigInteger order = publicKey.getParams().getOrder();
-        BigInteger r = new BigInteger(1, rBytes);
-        BigInteger s = new BigInteger(1, sBytes);
-
         // R and S must be less than N
-        if (order.compareTo(r) < 1) {
-            throw new SignatureException("Invalid signature format.");
-        }
-
-        if (order.compareTo(s) < 1) {
+        if (order != null && (!isLessThan(joseSignature, 0, order)
+                || !isLessThan(joseSignature, ecNumberSize, order))) {
             throw new SignatureException("Invalid signature format.");
         }
     }
@@ -264,15 +385,84 @@ class ECDSAAlgorithm extends Algorithm {
         return derSignature;
     }
 
-    private boolean isAllZeros(byte[] bytes) {
-        for (byte b : bytes) {
-            if (b != 0) {
+    private static boolean isAllZeros(byte[] bytes, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (bytes[i] != 0) {
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Compares the unsigned big-endian number at the given position with another one of the same size.
+     */
+    private static boolean isLessThan(byte[] bytes, int fromIndex, byte[] other) {
+        for (int i = 0; i < other.length; i++) {
+            int a = bytes[fromIndex + i] & 0xff;
+            int b = other[i] & 0xff;
+            if (a != b) {
+                return a < b;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the order and the verification mode of the given key. Those of the last {@value #VERIFICATION_KEYS}
+     * key instances given are kept, so that the tokens of a few keys in use at the same time, as during a key
+     * rotation, don't compute them again when they are interleaved.
+     */
+    private VerificationKey verificationKeyFor(ECPublicKey publicKey) {
+        for (VerificationKey key : verificationKeys) {
+            if (key.publicKey == publicKey) {
+                return key;
+            }
+        }
+        VerificationKey key = new VerificationKey(publicKey, orderOf(publicKey), p1363Description != null);
+        remember(key);
+        return key;
+    }
+
+    /**
+     * Adds the given key in front of the kept ones, replacing the one of the same key instance if there is one, and
+     * dropping the oldest one if there are too many.
+     */
+    private synchronized void remember(VerificationKey key) {
+        VerificationKey[] keys = verificationKeys;
+        VerificationKey[] updated = new VerificationKey[Math.min(keys.length + 1, VERIFICATION_KEYS)];
+        updated[0] = key;
+        int size = 1;
+        for (int i = 0; i < keys.length && size < updated.length; i++) {
+            if (keys[i].publicKey != key.publicKey) {
+                updated[size++] = keys[i];
+            }
+        }
+        verificationKeys = size == updated.length ? updated : Arrays.copyOf(updated, size);
+    }
+
+    private byte[] orderOf(ECPublicKey publicKey) {
+        byte[] order = publicKey.getParams().getOrder().toByteArray();
+        int sign = order.length > 1 && order[0] == 0 ? 1 : 0;
+        if (order.length - sign > ecNumberSize) {
+            return null;
+        }
+        byte[] padded = new byte[ecNumberSize];
+        System.arraycopy(order, sign, padded, ecNumberSize - order.length + sign, order.length - sign);
+        return padded;
+    }
+
+    private static boolean isP1363Supported(String algorithm) {
+        return P1363_SUPPORT.computeIfAbsent(algorithm, name -> {
+            try {
+                Signature.getInstance(name + P1363_FORMAT);
+                return true;
+            } catch (NoSuchAlgorithmException e) {
+                return false;
+            }
+        });
+    }
+
     private int countPadding(byte[] bytes, int fromIndex, int toIndex) {
         int padding = 0;
         while (fromIndex + padding < toIndex && bytes[fromIndex + padding] == 0) {
@@ -303,4 +493,19 @@ class ECDSAAlgorithm extends Algorithm {
             }
         };
     }
+
+    /**
+     * A public key, along with the order of its curve and whether it's verified with the P1363 variant.
+     */
+    private static final class VerificationKey {
+        final ECPublicKey publicKey;
+        final byte[] order;
+        final boolean p1363;
+
+        VerificationKey(ECPublicKey publicKey, byte[] order, boolean p1363) {
+            this.publicKey = publicKey;
+            this.order = order;
+            this.p1363 = p1363;
+        }
+    }
 }
@@ -0,0 +1,225 @@
+package com.auth0.jwt.algorithms;
+
+import com.auth0.jwt.exceptions.SignatureGenerationException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.impl.JWTEvents;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.EdDSAKeyProvider;
+
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SignatureException;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.LongConsumer;
+
+/**
+ * Subclass representing an Edwards-curve signing algorithm, Ed25519 or Ed448 depending on the keys.
+ * <p>
+ * The signatures are the raw concatenation the JCA produces, which is also their JOSE form, so no conversion is
+ * needed. It relies on the JDK's EdDSA support, available since Java 15, or on a provider registering the "EdDSA"
+ * signature algorithm.
+ * <p>
+ * This class is thread-safe.
+ */
+class EdDSAAlgorithm extends Algorithm {
+
+    private final EdDSAKeyProvider keyProvider;
+    private final CryptoHelper crypto;
+
+    //Visible for testing
+    EdDSAAlgorithm(CryptoHelper crypto, String id, String algorithm, EdDSAKeyProvider keyProvider)
+            throws IllegalArgumentException {
+        super(id, algorithm);
+        if (keyProvider == null) {
+            throw new IllegalArgumentException("The Key Provider cannot be null.");
+        }
+        this.keyProvider = keyProvider;
+        this.crypto = crypto;
+    }
+
+    EdDSAAlgorithm(String id, String algorithm, EdDSAKeyProvider keyProvider) throws IllegalArgumentException {
+        this(new CryptoHelper(), id, algorithm, keyProvider);
+    }
+
+    @Override
+    public void verify(DecodedJWT jwt) throws SignatureVerificationException {
+        verify(jwt, publicKeyFor(jwt));
+    }
+
+    @Override
+    public void verify(DecodedJWT jwt, LongConsumer keyLookupNanos) throws SignatureVerificationException {
+        long start = System.nanoTime();
+        PublicKey publicKey = publicKeyFor(jwt);
+        keyLookupNanos.accept(System.nanoTime() - start);
+        verify(jwt, publicKey);
+    }
+
+    @Override
+    public CompletableFuture<Void> verifyAsync(DecodedJWT jwt, Executor executor) throws IllegalArgumentException {
+        return verifyAsync(() -> keyProvider.getPublicKeyByIdAsync(jwt.getKeyId()), executor,
+                publicKey -> verify(jwt, publicKey));
+    }
+
+    private PublicKey publicKeyFor(DecodedJWT jwt) throws SignatureVerificationException {
+        Object event = JWTEvents.beginKeyLookup();
+        PublicKey publicKey;
+        try {
+            publicKey = keyProvider.getPublicKeyById(jwt.getKeyId());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            SignatureVerificationException failure = new SignatureVerificationException(this, e);
+            if (event != null) {
+                endEvent(event, jwt, failure);
+            }
+            throw failure;
+        }
+        if (event != null) {
+            endEvent(event, jwt, null);
+        }
+        return publicKey;
+    }
+
+    private void verify(DecodedJWT jwt, PublicKey publicKey) throws SignatureVerificationException {
+        Object event = JWTEvents.beginSignatureVerification();
+        if (event == null) {
+            verifySignature(jwt, publicKey);
+            return;
+        }
+        try {
+            verifySignature(jwt, publicKey);
+        } catch (SignatureVerificationException e) {
+            endEvent(event, jwt, e);
+            throw e;
+        }
+        endEvent(event, jwt, null);
+    }
+
+    private void verifySignature(DecodedJWT jwt, PublicKey publicKey) throws SignatureVerificationException {
+        try {
+            byte[] signatureBytes = Base64.getUrlDecoder().decode(jwt.getSignature());
+            if (publicKey == null) {
+                throw new IllegalStateException("The given Public Key is null.");
+            }
+            boolean valid = crypto.verifySignatureFor(
+                    getDescription(), publicKey, jwt.getHeader(), jwt.getPayload(), signatureBytes);
+            if (!valid) {
+                throw new SignatureVerificationException(this);
+            }
+        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException
+                | IllegalArgumentException | IllegalStateException e) {
+            throw new SignatureVerificationException(this, e);
+        }
+    }
+
+    @Override
+    public byte[] sign(byte[] headerBytes, byte[] payloadBytes) throws SignatureGenerationException {
+        try {
+            PrivateKey privateKey = keyProvider.getPrivateKey();
+            if (privateKey == null) {
+                throw new IllegalStateException("The given Private Key is null.");
+            }
+            return crypto.createSignatureFor(getDescription(), privateKey, headerBytes, payloadBytes);
+        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException | IllegalStateException e) {
+            throw new SignatureGenerationException(this, e);
+        }
+    }
+
+    @Override
+    public byte[] sign(byte[] contentBytes) throws SignatureGenerationException {
+        try {
+            PrivateKey privateKey = keyProvider.getPrivateKey();
+            if (privateKey == null) {
+                throw new IllegalStateException("The given Private Key is null.");
+            }
+            return crypto.createSignatureFor(getDescription(), privateKey, contentBytes);
+        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException | IllegalStateException e) {
+            throw new SignatureGenerationException(this, e);
+        }
+    }
+
+    @Override
+    public byte[] sign(byte[] contentBytes, int offset, int length) throws SignatureGenerationException {
+        try {
+            PrivateKey privateKey = keyProvider.getPrivateKey();
+            if (privateKey == null) {
+                throw new IllegalStateException("The given Private Key is null.");
+            }
+            return crypto.createSignatureFor(getDescription(), privateKey, null, contentBytes, offset, length);
+        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException | IllegalStateException e) {
+            throw new SignatureGenerationException(this, e);
+        }
+    }
+
+    @Override
+    public String getSigningKeyId() {
+        return keyProvider.getPrivateKeyId();
+    }
+
+    @Override
+    public Algorithm withCurrentSigningKey() {
+        final EdDSAKeyProvider provider = keyProvider;
+        final PrivateKey privateKey = provider.getPrivateKey();
+        final String privateKeyId = provider.getPrivateKeyId();
+        return new EdDSAAlgorithm(crypto, getName(), getDescription(), new EdDSAKeyProvider() {
+            @Override
+            public PublicKey getPublicKeyById(String keyId) {
+                return provider.getPublicKeyById(keyId);
+            }
+
+            @Override
+            public CompletableFuture<PublicKey> getPublicKeyByIdAsync(String keyId) {
+                return provider.getPublicKeyByIdAsync(keyId);
+            }
+
+            @Override
+            public PrivateKey getPrivateKey() {
+                return privateKey;
+            }
+
+            @Override
+            public String getPrivateKeyId() {
+                return privateKeyId;
+            }
+        });
+    }
+
+    //Visible for testing
+    static EdDSAKeyProvider providerForKeys(final PublicKey publicKey, final PrivateKey privateKey) {
+        if (publicKey == null && privateKey == null) {
+            throw new IllegalArgumentException("Both provided Keys cannot be null.");
+        }
+        checkKeyAlgorithm(publicKey, "Public Key");
+        checkKeyAlgorithm(privateKey, "Private Key");
+        return new EdDSAKeyProvider() {
+            @Override
+            public PublicKey getPublicKeyById(String keyId) {
+                return publicKey;
+            }
+
+            @Override
+            public PrivateKey getPrivateKey() {
+                return privateKey;
+            }
+
+            @Override
+            public String getPrivateKeyId() {
+                return null;
+            }
+        };
+    }
+
+    private static void checkKeyAlgorithm(Key key, String name) {
+        if (key == null) {
+            return;
+        }
+        String keyAlgorithm = key.getAlgorithm();
+        if (!"EdDSA".equals(keyAlgorithm) && !"Ed25519".equals(keyAlgorithm) && !"Ed448".equals(keyAlgorithm)) {
+            throw new IllegalArgumentException(
+                    String.format("The provided %s is not an EdDSA key, its algorithm is %s.", name, keyAlgorithm));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.auth0.jwt.algorithms;
 
 import com.auth0.jwt.exceptions.SignatureGenerationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.impl.JWTEvents;
 import com.auth0.jwt.interfaces.DecodedJWT;
 
 import java.nio.charset.StandardCharsets;
@@ -49,6 +50,21 @@ class HMACAlgorithm extends Algorithm {
 
     @Override
     public void verify(DecodedJWT jwt) throws SignatureVerificationException {
+        Object event = JWTEvents.beginSignatureVerification();
+        if (event == null) {
+            verifySignature(jwt);
+            return;
+        }
+        try {
+            verifySignature(jwt);
+        } catch (SignatureVerificationException e) {
+            endEvent(event, jwt, e);
+            throw e;
+        }
+        endEvent(event, jwt, null);
+    }
+
+    private void verifySignature(DecodedJWT jwt) throws SignatureVerificationException {
         try {
             byte[] signatureBytes = Base64.getUrlDecoder().decode(jwt.getSignature());
             boolean valid = crypto.verifySignatureFor(
@@ -78,4 +94,13 @@ class HMACAlgorithm extends Algorithm {
             throw new SignatureGenerationException(this, e);
         }
     }
+
+    @Override
+    public byte[] sign(byte[] contentBytes, int offset, int length) throws SignatureGenerationException {
+        try {
+            return crypto.createSignatureFor(getDescription(), secret, contentBytes, offset, length);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new SignatureGenerationException(this, e);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.auth0.jwt.algorithms;
 
 import com.auth0.jwt.exceptions.SignatureGenerationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.impl.JWTEvents;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.RSAKeyProvider;
 
@@ -12,6 +13,9 @@ import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.security.spec.AlgorithmParameterSpec;
 import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.LongConsumer;
 
 /**
  * Subclass representing an RSA signing algorithm
@@ -53,9 +57,59 @@ class RSAAlgorithm extends Algorithm {
 
     @Override
     public void verify(DecodedJWT jwt) throws SignatureVerificationException {
+        verify(jwt, publicKeyFor(jwt));
+    }
+
+    @Override
+    public void verify(DecodedJWT jwt, LongConsumer keyLookupNanos) throws SignatureVerificationException {
+        long start = System.nanoTime();
+        RSAPublicKey publicKey = publicKeyFor(jwt);
+        keyLookupNanos.accept(System.nanoTime() - start);
+        verify(jwt, publicKey);
+    }
+
+    @Override
+    public CompletableFuture<Void> verifyAsync(DecodedJWT jwt, Executor executor) throws IllegalArgumentException {
+        return verifyAsync(() -> keyProvider.getPublicKeyByIdAsync(jwt.getKeyId()), executor,
+                publicKey -> verify(jwt, publicKey));
+    }
+
+    private RSAPublicKey publicKeyFor(DecodedJWT jwt) throws SignatureVerificationException {
+        Object event = JWTEvents.beginKeyLookup();
+        RSAPublicKey publicKey;
+        try {
+            publicKey = keyProvider.getPublicKeyById(jwt.getKeyId());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            SignatureVerificationException failure = new SignatureVerificationException(this, e);
+            if (event != null) {
+                endEvent(event, jwt, failure);
+            }
+            throw failure;
+        }
+        if (event != null) {
+            endEvent(event, jwt, null);
+        }
+        return publicKey;
+    }
+
+    private void verify(DecodedJWT jwt, RSAPublicKey publicKey) throws SignatureVerificationException {
+        Object event = JWTEvents.beginSignatureVerification();
+        if (event == null) {
+            verifySignature(jwt, publicKey);
+            return;
+        }
+        try {
+            verifySignature(jwt, publicKey);
+        } catch (SignatureVerificationException e) {
+            endEvent(event, jwt, e);
+            throw e;
+        }
+        endEvent(event, jwt, null);
+    }
+
+    private void verifySignature(DecodedJWT jwt, RSAPublicKey publicKey) throws SignatureVerificationException {
         try {
             byte[] signatureBytes = Base64.getUrlDecoder().decode(jwt.getSignature());
-            RSAPublicKey publicKey = keyProvider.getPublicKeyById(jwt.getKeyId());
             if (publicKey == null) {
                 throw new IllegalStateException("The given Public Key is null.");
             }
@@ -96,11 +150,52 @@ class RSAAlgorithm extends Algorithm {
         }
     }
 
+    @Override
+    public byte[] sign(byte[] contentBytes, int offset, int length) throws SignatureGenerationException {
+        try {
+            RSAPrivateKey privateKey = keyProvider.getPrivateKey();
+            if (privateKey == null) {
+                throw new IllegalStateException("The given Private Key is null.");
+            }
+            return crypto.createSignatureFor(getDescription(), privateKey, params, contentBytes, offset, length);
+        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException | IllegalStateException e) {
+            throw new SignatureGenerationException(this, e);
+        }
+    }
+
     @Override
     public String getSigningKeyId() {
         return keyProvider.getPrivateKeyId();
     }
 
+    @Override
+    public Algorithm withCurrentSigningKey() {
+        final RSAKeyProvider provider = keyProvider;
+        final RSAPrivateKey privateKey = provider.getPrivateKey();
+        final String privateKeyId = provider.getPrivateKeyId();
+        return new RSAAlgorithm(crypto, getName(), getDescription(), params, new RSAKeyProvider() {
+            @Override
+            public RSAPublicKey getPublicKeyById(String keyId) {
+                return provider.getPublicKeyById(keyId);
+            }
+
+            @Override
+            public CompletableFuture<RSAPublicKey> getPublicKeyByIdAsync(String keyId) {
+                return provider.getPublicKeyByIdAsync(keyId);
+            }
+
+            @Override
+            public RSAPrivateKey getPrivateKey() {
+                return privateKey;
+            }
+
+            @Override
+            public String getPrivateKeyId() {
+                return privateKeyId;
+            }
+        });
+    }
+
     //Visible for testing
     static RSAKeyProvider providerForKeys(final RSAPublicKey publicKey, final RSAPrivateKey privateKey) {
         if (publicKey == null && privateKey == null) {
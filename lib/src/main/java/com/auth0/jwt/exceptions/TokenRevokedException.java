@@ -0,0 +1,13 @@
+package com.auth0.jwt.exceptions;
+
+/**
+ * The exception that is thrown if the token has been revoked.
+ */
+public class TokenRevokedException extends JWTVerificationException {
+
+    private static final long serialVersionUID = 4938503174412369541L;
+
+    public TokenRevokedException(String message) {
+        super(message);
+    }
+}
@@ -45,7 +45,20 @@ public class ClaimsSerializer<T extends ClaimsHolder> extends StdSerializer<T> {
     }
 
     private static void handleSerialization(Object value, JsonGenerator gen) throws IOException {
-        if (value instanceof Date) {
+        // the most common claim types are written directly, without looking up their serializer
+        if (value instanceof String) {
+            gen.writeString((String) value);
+        } else if (value instanceof Long) {
+            gen.writeNumber((Long) value);
+        } else if (value instanceof Integer) {
+            gen.writeNumber((Integer) value);
+        } else if (value instanceof Boolean) {
+            gen.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            gen.writeNumber((Double) value);
+        } else if (value == null) {
+            gen.writeNull();
+        } else if (value instanceof Date) {
             gen.writeNumber(dateToSeconds((Date) value));
         } else if (value instanceof Instant) { // EXPIRES_AT, ISSUED_AT, NOT_BEFORE, custom Instant claims
             gen.writeNumber(instantToSeconds((Instant) value));
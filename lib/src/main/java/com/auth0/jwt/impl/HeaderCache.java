@@ -0,0 +1,85 @@
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.interfaces.Header;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of parsed Headers, keyed by their Base64url encoded segment. The tokens of an issuer signed with
+ * the same key share a byte-identical Header segment, so most tokens find their Header already parsed.
+ * <p>
+ * Segments longer than {@value #MAX_SEGMENT_LENGTH} characters are not cached. When the cache is full a single
+ * entry is evicted, in insertion order, to make room for the new one. An entry that was looked up since it was
+ * last considered for eviction is given a second chance and moved to the back instead, so that headers made up
+ * to fill the cache only push out each other, and not the headers of the legitimate tokens still being used.
+ * <p>
+ * This class is thread-safe.
+ */
+final class HeaderCache {
+
+    static final int MAX_SEGMENT_LENGTH = 1024;
+
+    private final int maxSize;
+    private final Map<String, Entry> entries;
+    private final ArrayDeque<String> order;
+
+    HeaderCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new ConcurrentHashMap<>();
+        this.order = new ArrayDeque<>();
+    }
+
+    /**
+     * Returns the parsed Header of the given segment, or null if it's not cached.
+     */
+    Header get(String segment) {
+        Entry entry = entries.get(segment);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry.header;
+    }
+
+    /**
+     * Stores the parsed Header of the given segment.
+     */
+    void put(String segment, Header header) {
+        if (segment.length() > MAX_SEGMENT_LENGTH) {
+            return;
+        }
+        synchronized (order) {
+            if (entries.putIfAbsent(segment, new Entry(header)) != null) {
+                return;
+            }
+            while (order.size() >= maxSize) {
+                String oldest = order.pollFirst();
+                Entry entry = entries.get(oldest);
+                if (entry.referenced) {
+                    entry.referenced = false;
+                    order.addLast(oldest);
+                } else {
+                    entries.remove(oldest);
+                }
+            }
+            order.addLast(segment);
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final Header header;
+        private volatile boolean referenced;
+
+        Entry(Header header) {
+            this.header = header;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+/**
+ * Records the decoding, signing and verification of tokens as Java Flight Recorder events.
+ * <p>
+ * Flight Recorder events can't be defined before Java 11, so this version of the class records nothing. The jar
+ * holds another version of it under {@code META-INF/versions/11}, which Java 11 and later load instead, that
+ * records the events named {@code com.auth0.jwt.Decode}, {@code com.auth0.jwt.KeyLookup},
+ * {@code com.auth0.jwt.SignatureVerification}, {@code com.auth0.jwt.Signing} and {@code com.auth0.jwt.Verification}.
+ * They are disabled by default, and are enabled through the settings of a recording.
+ * <p>
+ * Each begin method returns the event in progress, or null if the event is not enabled, in which case the caller
+ * skips gathering the event's fields. The event is then given to {@link #end}.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class JWTEvents {
+
+    private JWTEvents() {
+    }
+
+    /**
+     * Begins the event of decoding a token.
+     *
+     * @return the event in progress, or null if it's not enabled.
+     */
+    public static Object beginDecode() {
+        return null;
+    }
+
+    /**
+     * Begins the event of obtaining a Public Key from a Key Provider.
+     *
+     * @return the event in progress, or null if it's not enabled.
+     */
+    public static Object beginKeyLookup() {
+        return null;
+    }
+
+    /**
+     * Begins the event of verifying a token's signature.
+     *
+     * @return the event in progress, or null if it's not enabled.
+     */
+    public static Object beginSignatureVerification() {
+        return null;
+    }
+
+    /**
+     * Begins the event of signing a token.
+     *
+     * @return the event in progress, or null if it's not enabled.
+     */
+    public static Object beginSigning() {
+        return null;
+    }
+
+    /**
+     * Begins the event of verifying a token with a verifier, including its decoding, signature and claims.
+     *
+     * @return the event in progress, or null if it's not enabled.
+     */
+    public static Object beginVerification() {
+        return null;
+    }
+
+    /**
+     * Ends the given event and commits it with the given fields.
+     *
+     * @param event       the event returned by one of the begin methods, or null.
+     * @param algorithm   the name of the token's algorithm, or null if it's not known.
+     * @param keyId       the Key Id of the token, or null if it has none or it's not known.
+     * @param tokenLength the length of the token, or -1 if it's not known.
+     * @param failure     the exception the operation failed with, or null if it succeeded.
+     */
+    public static void end(Object event, String algorithm, String keyId, int tokenLength, Throwable failure) {
+    }
+
+    /**
+     * Returns the length of the given decoded token, without joining its parts.
+     *
+     * @param jwt the decoded token.
+     * @return the length of the token.
+     */
+    public static int tokenLength(DecodedJWT jwt) {
+        return jwt.getHeader().length() + jwt.getPayload().length() + jwt.getSignature().length() + 2;
+    }
+}
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 
 /**
  * This class helps in decoding the Header and Payload of the JWT using
@@ -19,13 +21,17 @@ public class JWTParser implements JWTPartsParser {
     private static final ObjectMapper DEFAULT_OBJECT_MAPPER = createDefaultObjectMapper();
     private static final ObjectReader DEFAULT_PAYLOAD_READER = DEFAULT_OBJECT_MAPPER.readerFor(Payload.class);
     private static final ObjectReader DEFAULT_HEADER_READER = DEFAULT_OBJECT_MAPPER.readerFor(Header.class);
+    private static final int HEADER_CACHE_SIZE = 256;
+    private static final HeaderCache DEFAULT_HEADER_CACHE = new HeaderCache(HEADER_CACHE_SIZE);
 
     private final ObjectReader payloadReader;
     private final ObjectReader headerReader;
+    private final HeaderCache headerCache;
 
     public JWTParser() {
         this.payloadReader = DEFAULT_PAYLOAD_READER;
         this.headerReader = DEFAULT_HEADER_READER;
+        this.headerCache = DEFAULT_HEADER_CACHE;
     }
 
     JWTParser(ObjectMapper mapper) {
@@ -33,6 +39,7 @@ public class JWTParser implements JWTPartsParser {
 
         this.payloadReader = mapper.readerFor(Payload.class);
         this.headerReader = mapper.readerFor(Header.class);
+        this.headerCache = new HeaderCache(HEADER_CACHE_SIZE);
     }
 
     @Override
@@ -42,7 +49,9 @@ public class JWTParser implements JWTPartsParser {
         }
 
         try {
-            return payloadReader.readValue(json);
+            return payloadReader
+                    .withAttribute(PayloadDeserializer.SOURCE_ATTRIBUTE, new RawClaimsMap.Source(json))
+                    .readValue(json);
         } catch (IOException e) {
             throw decodeException(json);
         }
@@ -61,6 +70,82 @@ public class JWTParser implements JWTPartsParser {
         }
     }
 
+    /**
+     * Parses the given UTF-8 encoded JSON into a {@link Payload} instance. The bytes are handed to Jackson as they
+     * are, without building an intermediate {@link String}. The Payload keeps a reference to the array, so that
+     * custom claims are only parsed when they are looked up: the array must not be modified afterwards.
+     *
+     * @param json   the array holding the JSON bytes.
+     * @param offset the index of the first JSON byte in the array.
+     * @param length the number of JSON bytes.
+     * @return the Payload.
+     * @throws JWTDecodeException if the bytes don't represent a valid JSON object.
+     */
+    public Payload parsePayload(byte[] json, int offset, int length) throws JWTDecodeException {
+        if (json == null) {
+            throw decodeException();
+        }
+
+        try {
+            return payloadReader
+                    .withAttribute(PayloadDeserializer.SOURCE_ATTRIBUTE, new RawClaimsMap.Source(json, offset))
+                    .readValue(json, offset, length);
+        } catch (IOException e) {
+            throw decodeException(new String(json, offset, length, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Parses the given UTF-8 encoded JSON into a {@link Header} instance. The bytes are handed to Jackson as they
+     * are, without building an intermediate {@link String}.
+     *
+     * @param json   the array holding the JSON bytes.
+     * @param offset the index of the first JSON byte in the array.
+     * @param length the number of JSON bytes.
+     * @return the Header.
+     * @throws JWTDecodeException if the bytes don't represent a valid JSON object.
+     */
+    public Header parseHeader(byte[] json, int offset, int length) throws JWTDecodeException {
+        if (json == null) {
+            throw decodeException();
+        }
+
+        try {
+            return headerReader.readValue(json, offset, length);
+        } catch (IOException e) {
+            throw decodeException(new String(json, offset, length, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Decodes and parses the given Base64url encoded Header segment of a token into a {@link Header} instance.
+     * The parsed Headers are kept in a bounded cache shared by the parsers with the same configuration, so
+     * the Header of the tokens signed with the same key is only decoded and parsed once.
+     *
+     * @param segment the Base64url encoded Header segment.
+     * @return the Header.
+     * @throws JWTDecodeException if the segment isn't valid Base64url or doesn't represent a valid JSON object.
+     */
+    public Header parseHeaderSegment(String segment) throws JWTDecodeException {
+        if (segment == null) {
+            throw decodeException();
+        }
+        Header header = headerCache.get(segment);
+        if (header != null) {
+            return header;
+        }
+
+        byte[] json;
+        try {
+            json = Base64.getUrlDecoder().decode(segment);
+        } catch (IllegalArgumentException e) {
+            throw new JWTDecodeException("The input is not a valid base 64 encoded string.", e);
+        }
+        header = parseHeader(json, 0, json.length);
+        headerCache.put(segment, header);
+        return header;
+    }
+
     static void addDeserializers(ObjectMapper mapper) {
         SimpleModule module = new SimpleModule();
         module.addDeserializer(Payload.class, new PayloadDeserializer());
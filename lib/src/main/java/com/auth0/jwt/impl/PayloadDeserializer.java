@@ -5,6 +5,7 @@ import com.auth0.jwt.exceptions.JWTDecodeException;
 import com.auth0.jwt.interfaces.Payload;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
@@ -25,14 +26,30 @@ import java.util.*;
  */
 class PayloadDeserializer extends StdDeserializer<Payload> {
 
+    // serialized along with the ObjectCodec kept by each Payload, so pinned to the value computed by earlier versions
+    private static final long serialVersionUID = -4462839737940249272L;
+
+    /**
+     * Attribute holding the {@link RawClaimsMap.Source} the Payload's JSON is read from. When it's present, the
+     * values of custom claims are kept as ranges of the source and only parsed when they are looked up.
+     */
+    static final String SOURCE_ATTRIBUTE = PayloadDeserializer.class.getName() + ".source";
+
+    private static final TypeReference<Map<String, JsonNode>> TREE_TYPE = new TypeReference<Map<String, JsonNode>>() {
+    };
+
     PayloadDeserializer() {
         super(Payload.class);
     }
 
     @Override
     public Payload deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        Map<String, JsonNode> tree = p.getCodec().readValue(p, new TypeReference<Map<String, JsonNode>>() {
-        });
+        RawClaimsMap.Source source = (RawClaimsMap.Source) ctxt.getAttribute(SOURCE_ATTRIBUTE);
+        if (source != null && p.isExpectedStartObjectToken()) {
+            return readPayload(p, source);
+        }
+
+        Map<String, JsonNode> tree = p.getCodec().readValue(p, TREE_TYPE);
         if (tree == null) {
             throw new JWTDecodeException("Parsing the Payload's JSON resulted on a Null map");
         }
@@ -40,14 +57,133 @@ class PayloadDeserializer extends StdDeserializer<Payload> {
         String issuer = getString(tree, RegisteredClaims.ISSUER);
         String subject = getString(tree, RegisteredClaims.SUBJECT);
         List<String> audience = getStringOrArray(p.getCodec(), tree, RegisteredClaims.AUDIENCE);
-        Instant expiresAt = getInstantFromSeconds(tree, RegisteredClaims.EXPIRES_AT);
-        Instant notBefore = getInstantFromSeconds(tree, RegisteredClaims.NOT_BEFORE);
-        Instant issuedAt = getInstantFromSeconds(tree, RegisteredClaims.ISSUED_AT);
+        long expiresAt = getEpochSecond(tree, RegisteredClaims.EXPIRES_AT);
+        long notBefore = getEpochSecond(tree, RegisteredClaims.NOT_BEFORE);
+        long issuedAt = getEpochSecond(tree, RegisteredClaims.ISSUED_AT);
         String jwtId = getString(tree, RegisteredClaims.JWT_ID);
 
         return new PayloadImpl(issuer, subject, audience, expiresAt, notBefore, issuedAt, jwtId, tree, p.getCodec());
     }
 
+    /**
+     * Reads the claims of the JSON object the parser is at, token by token. The values of registered claims are
+     * read straight from the parser, and every claim is kept as a range of the source, only parsed into a
+     * {@link JsonNode} when it's looked up.
+     */
+    private Payload readPayload(JsonParser p, RawClaimsMap.Source source) throws IOException {
+        RawClaimsMap tree = new RawClaimsMap(source, p.getCodec());
+        String issuer = null;
+        String subject = null;
+        List<String> audience = null;
+        long expiresAt = Payload.MISSING_NUMERIC_DATE;
+        long notBefore = Payload.MISSING_NUMERIC_DATE;
+        long issuedAt = Payload.MISSING_NUMERIC_DATE;
+        String jwtId = null;
+        for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+            JsonToken token = p.nextToken();
+            long start = source.startOf(p);
+            switch (name) {
+                case RegisteredClaims.ISSUER:
+                    issuer = readString(p, token);
+                    break;
+                case RegisteredClaims.SUBJECT:
+                    subject = readString(p, token);
+                    break;
+                case RegisteredClaims.AUDIENCE:
+                    audience = readStringOrArray(p, token);
+                    break;
+                case RegisteredClaims.EXPIRES_AT:
+                    expiresAt = readEpochSecond(p, token, name);
+                    break;
+                case RegisteredClaims.NOT_BEFORE:
+                    notBefore = readEpochSecond(p, token, name);
+                    break;
+                case RegisteredClaims.ISSUED_AT:
+                    issuedAt = readEpochSecond(p, token, name);
+                    break;
+                case RegisteredClaims.JWT_ID:
+                    jwtId = readString(p, token);
+                    break;
+                default:
+                    p.skipChildren();
+                    if (token == JsonToken.VALUE_STRING) {
+                        p.finishToken();
+                    }
+                    break;
+            }
+            tree.putRaw(name, start, source.endOf(p));
+        }
+
+        return new PayloadImpl(issuer, subject, audience, expiresAt, notBefore, issuedAt, jwtId, tree, p.getCodec());
+    }
+
+    private static String readString(JsonParser p, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isStructStart()) {
+            p.skipChildren();
+            return "";
+        }
+        return token.isNumeric() ? p.getNumberValue().toString() : p.getText();
+    }
+
+    private static List<String> readStringOrArray(JsonParser p, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            return Collections.singletonList(p.getText());
+        }
+        if (token != JsonToken.START_ARRAY) {
+            p.skipChildren();
+            return null;
+        }
+
+        List<String> list = new ArrayList<>();
+        for (JsonToken element = p.nextToken(); element != JsonToken.END_ARRAY; element = p.nextToken()) {
+            if (element.isStructStart()) {
+                throw new JWTDecodeException("Couldn't map the Claim's array contents to String");
+            }
+            list.add(element == JsonToken.VALUE_NULL ? null : p.getText());
+        }
+        return list;
+    }
+
+    private static long readEpochSecond(JsonParser p, JsonToken token, String claimName) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return Payload.MISSING_NUMERIC_DATE;
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT && p.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+            return checkEpochSecond(p.getLongValue(), claimName, p.getText());
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            double value = p.getDoubleValue();
+            if (value >= Long.MIN_VALUE && value <= Long.MAX_VALUE) {
+                return checkEpochSecond((long) value, claimName, String.valueOf(value));
+            }
+            throw outOfRange(claimName, String.valueOf(value));
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            throw outOfRange(claimName, p.getText());
+        }
+        p.skipChildren();
+        throw new JWTDecodeException(String.format("The claim '%s' contained a non-numeric date value.", claimName));
+    }
+
+    private static long checkEpochSecond(long value, String claimName, String text) {
+        if (value < Instant.MIN.getEpochSecond() || value > Instant.MAX.getEpochSecond()) {
+            throw outOfRange(claimName, text);
+        }
+        return value;
+    }
+
+    private static JWTDecodeException outOfRange(String claimName, String text) {
+        return new JWTDecodeException(String.format(
+                "The claim '%s' value (%s) is out of the range representable as a NumericDate.", claimName, text));
+    }
+
+    private static Instant toInstant(long epochSecond) {
+        return epochSecond != Payload.MISSING_NUMERIC_DATE ? Instant.ofEpochSecond(epochSecond) : null;
+    }
+
     List<String> getStringOrArray(ObjectCodec codec, Map<String, JsonNode> tree, String claimName)
             throws JWTDecodeException {
         JsonNode node = tree.get(claimName);
@@ -70,9 +206,13 @@ class PayloadDeserializer extends StdDeserializer<Payload> {
     }
 
     Instant getInstantFromSeconds(Map<String, JsonNode> tree, String claimName) {
+        return toInstant(getEpochSecond(tree, claimName));
+    }
+
+    long getEpochSecond(Map<String, JsonNode> tree, String claimName) {
         JsonNode node = tree.get(claimName);
         if (node == null || node.isNull()) {
-            return null;
+            return Payload.MISSING_NUMERIC_DATE;
         }
         // A NumericDate per RFC 7519 is a JSON number and may be written in scientific notation
         // (for example 1.7e9). Split the two failure modes so the thrown error is accurate: a
@@ -84,11 +224,9 @@ class PayloadDeserializer extends StdDeserializer<Payload> {
                     String.format("The claim '%s' contained a non-numeric date value.", claimName));
         }
         if (!node.canConvertToLong()) {
-            throw new JWTDecodeException(String.format(
-                    "The claim '%s' value (%s) is out of the range representable as a NumericDate.",
-                    claimName, node.asText()));
+            throw outOfRange(claimName, node.asText());
         }
-        return Instant.ofEpochSecond(node.asLong());
+        return checkEpochSecond(node.asLong(), claimName, node.asText());
     }
 
     String getString(Map<String, JsonNode> tree, String claimName) {
@@ -5,11 +5,15 @@ import com.auth0.jwt.interfaces.Payload;
 import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.JsonNode;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -26,23 +30,37 @@ class PayloadImpl implements Payload, Serializable {
 
     private static final long serialVersionUID = 1659021498824562311L;
 
+    // the serialized form keeps the registered dates as Instants, as written by earlier versions
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("issuer", String.class),
+            new ObjectStreamField("subject", String.class),
+            new ObjectStreamField("audience", List.class),
+            new ObjectStreamField("expiresAt", Instant.class),
+            new ObjectStreamField("notBefore", Instant.class),
+            new ObjectStreamField("issuedAt", Instant.class),
+            new ObjectStreamField("jwtId", String.class),
+            new ObjectStreamField("tree", Map.class),
+            new ObjectStreamField("objectCodec", ObjectCodec.class)
+    };
+
     private final String issuer;
     private final String subject;
     private final List<String> audience;
-    private final Instant expiresAt;
-    private final Instant notBefore;
-    private final Instant issuedAt;
+    private final long expiresAt;
+    private final long notBefore;
+    private final long issuedAt;
     private final String jwtId;
     private final Map<String, JsonNode> tree;
     private final ObjectCodec objectCodec;
+    private transient PayloadImpl deserialized;
 
     PayloadImpl(
             String issuer,
             String subject,
             List<String> audience,
-            Instant expiresAt,
-            Instant notBefore,
-            Instant issuedAt,
+            long expiresAt,
+            long notBefore,
+            long issuedAt,
             String jwtId,
             Map<String, JsonNode> tree,
             ObjectCodec objectCodec
@@ -79,32 +97,46 @@ class PayloadImpl implements Payload, Serializable {
 
     @Override
     public Date getExpiresAt() {
-        return (expiresAt != null) ? Date.from(expiresAt) : null;
+        return expiresAt != MISSING_NUMERIC_DATE ? Date.from(Instant.ofEpochSecond(expiresAt)) : null;
     }
 
-
     @Override
     public Instant getExpiresAtAsInstant() {
+        return expiresAt != MISSING_NUMERIC_DATE ? Instant.ofEpochSecond(expiresAt) : null;
+    }
+
+    @Override
+    public long getExpiresAtEpochSecond() {
         return expiresAt;
     }
 
     @Override
     public Date getIssuedAt() {
-        return (issuedAt != null) ? Date.from(issuedAt) : null;
+        return issuedAt != MISSING_NUMERIC_DATE ? Date.from(Instant.ofEpochSecond(issuedAt)) : null;
     }
 
     @Override
     public Instant getIssuedAtAsInstant() {
+        return issuedAt != MISSING_NUMERIC_DATE ? Instant.ofEpochSecond(issuedAt) : null;
+    }
+
+    @Override
+    public long getIssuedAtEpochSecond() {
         return issuedAt;
     }
 
     @Override
     public Date getNotBefore() {
-        return (notBefore != null) ? Date.from(notBefore) : null;
+        return notBefore != MISSING_NUMERIC_DATE ? Date.from(Instant.ofEpochSecond(notBefore)) : null;
     }
 
     @Override
     public Instant getNotBeforeAsInstant() {
+        return notBefore != MISSING_NUMERIC_DATE ? Instant.ofEpochSecond(notBefore) : null;
+    }
+
+    @Override
+    public long getNotBeforeEpochSecond() {
         return notBefore;
     }
 
@@ -120,10 +152,47 @@ class PayloadImpl implements Payload, Serializable {
 
     @Override
     public Map<String, Claim> getClaims() {
-        Map<String, Claim> claims = new HashMap<>(tree.size() * 2);
+        Map<String, Claim> claims = new LinkedHashMap<>(tree.size() * 2);
         for (String name : tree.keySet()) {
             claims.put(name, extractClaim(name, tree, objectCodec));
         }
         return Collections.unmodifiableMap(claims);
     }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("issuer", issuer);
+        fields.put("subject", subject);
+        fields.put("audience", audience);
+        fields.put("expiresAt", getExpiresAtAsInstant());
+        fields.put("notBefore", getNotBeforeAsInstant());
+        fields.put("issuedAt", getIssuedAtAsInstant());
+        fields.put("jwtId", jwtId);
+        fields.put("tree", tree);
+        fields.put("objectCodec", objectCodec);
+        out.writeFields();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        deserialized = new PayloadImpl(
+                (String) fields.get("issuer", null),
+                (String) fields.get("subject", null),
+                (List<String>) fields.get("audience", null),
+                toEpochSecond((Instant) fields.get("expiresAt", null)),
+                toEpochSecond((Instant) fields.get("notBefore", null)),
+                toEpochSecond((Instant) fields.get("issuedAt", null)),
+                (String) fields.get("jwtId", null),
+                (Map<String, JsonNode>) fields.get("tree", null),
+                (ObjectCodec) fields.get("objectCodec", null));
+    }
+
+    private Object readResolve() {
+        return deserialized;
+    }
+
+    private static long toEpochSecond(Instant instant) {
+        return instant != null ? instant.getEpochSecond() : MISSING_NUMERIC_DATE;
+    }
 }
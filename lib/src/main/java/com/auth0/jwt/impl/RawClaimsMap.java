@@ -0,0 +1,168 @@
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.LinkedHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Map of claim names to their JSON values, where a value can be kept as the range of the Payload's JSON it was
+ * read from and only parsed into a {@link JsonNode} the first time it's looked up. Claims are kept in the order
+ * they appear in the JSON.
+ * <p>
+ * Claims are only added while the Payload is read, before the map is shared. Once it's shared, this class is
+ * thread-safe: a parsed value replaces its range in a volatile holder. It's serialized as a regular map, with all
+ * of its values parsed.
+ */
+final class RawClaimsMap extends AbstractMap<String, JsonNode> implements Serializable {
+
+    private static final long serialVersionUID = -2389742375102583815L;
+
+    private final Map<String, Value> claims;
+    private final transient Source source;
+    private final transient ObjectCodec codec;
+
+    RawClaimsMap(Source source, ObjectCodec codec) {
+        this.claims = new LinkedHashMap<>();
+        this.source = source;
+        this.codec = codec;
+    }
+
+    void putNode(String name, JsonNode node) {
+        claims.put(name, new Value(node));
+    }
+
+    void putRaw(String name, long start, long end) {
+        claims.put(name, new Value(new RawValue((int) start, (int) end)));
+    }
+
+    @Override
+    public JsonNode get(Object name) {
+        if (name == null) {
+            return null;
+        }
+        Value value = claims.get(name);
+        if (value == null) {
+            return null;
+        }
+        Object current = value.current;
+        if (current instanceof RawValue) {
+            JsonNode node = source.parse((RawValue) current, codec);
+            value.current = node;
+            return node;
+        }
+        return (JsonNode) current;
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+        return name != null && claims.containsKey(name);
+    }
+
+    @Override
+    public int size() {
+        return claims.size();
+    }
+
+    @Override
+    public Set<Entry<String, JsonNode>> entrySet() {
+        return new AbstractSet<Entry<String, JsonNode>>() {
+            @Override
+            public Iterator<Entry<String, JsonNode>> iterator() {
+                Iterator<String> names = claims.keySet().iterator();
+                return new Iterator<Entry<String, JsonNode>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return names.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, JsonNode> next() {
+                        String name = names.next();
+                        return new SimpleImmutableEntry<>(name, get(name));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return claims.size();
+            }
+        };
+    }
+
+    private Object writeReplace() {
+        return new LinkedHashMap<>(this);
+    }
+
+    /**
+     * The UTF-8 bytes or the String the Payload's JSON is read from, and the index at which the JSON starts.
+     */
+    static final class Source {
+        private final byte[] bytes;
+        private final String string;
+        private final int offset;
+
+        Source(byte[] bytes, int offset) {
+            this.bytes = bytes;
+            this.string = null;
+            this.offset = offset;
+        }
+
+        Source(String string) {
+            this.bytes = null;
+            this.string = string;
+            this.offset = 0;
+        }
+
+        long startOf(JsonParser p) {
+            return bytes != null ? p.currentTokenLocation().getByteOffset() : p.currentTokenLocation().getCharOffset();
+        }
+
+        long endOf(JsonParser p) {
+            return bytes != null ? p.currentLocation().getByteOffset() : p.currentLocation().getCharOffset();
+        }
+
+        JsonNode parse(RawValue value, ObjectCodec codec) {
+            try (JsonParser parser = bytes != null
+                    ? codec.getFactory().createParser(bytes, offset + value.start, value.end - value.start)
+                    : codec.getFactory().createParser(string.substring(value.start, value.end))) {
+                JsonNode node = codec.readTree(parser);
+                return node != null ? node : MissingNode.getInstance();
+            } catch (IOException e) {
+                throw new JWTDecodeException("Couldn't parse the Claim's JSON value", e);
+            }
+        }
+    }
+
+    /**
+     * Holder of a claim's value, either its range of the source or its parsed JsonNode.
+     */
+    private static final class Value {
+        private volatile Object current;
+
+        Value(Object current) {
+            this.current = current;
+        }
+    }
+
+    private static final class RawValue {
+        private final int start;
+        private final int end;
+
+        RawValue(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
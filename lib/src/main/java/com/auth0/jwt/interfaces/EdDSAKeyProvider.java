@@ -0,0 +1,12 @@
+package com.auth0.jwt.interfaces;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+
+/**
+ * Edwards-curve (Ed25519 and Ed448) Public/Private Key provider.
+ * The keys are typed as {@link PublicKey} and {@link PrivateKey}, as the JDK only has specific interfaces for
+ * them since Java 15.
+ */
+public interface EdDSAKeyProvider extends KeyProvider<PublicKey, PrivateKey> {
+}
@@ -1,7 +1,14 @@
 package com.auth0.jwt.interfaces;
 
+import com.auth0.jwt.VerificationResult;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Used to verify the JWT for its signature and claims. Implementations must be thread-safe. Instances are created
@@ -37,4 +44,96 @@ public interface JWTVerifier {
      * @throws JWTVerificationException if any of the verification steps fail
      */
     DecodedJWT verify(DecodedJWT jwt) throws JWTVerificationException;
+
+    /**
+     * Performs the verification against the given Token without blocking the calling thread. The verification
+     * runs on the given executor and its steps are the same as those of {@link #verify(String)}.
+     *
+     * @param token    to verify.
+     * @param executor the executor to run the verification on.
+     * @return a future completed with the verified and decoded JWT, or completed exceptionally with a
+     *         {@link JWTVerificationException} if any of the verification steps fail.
+     * @throws IllegalArgumentException if the executor is null.
+     */
+    default CompletableFuture<DecodedJWT> verifyAsync(String token, Executor executor)
+            throws IllegalArgumentException {
+        if (executor == null) {
+            throw new IllegalArgumentException("The Executor cannot be null.");
+        }
+        return CompletableFuture.supplyAsync(() -> verify(token), executor);
+    }
+
+    /**
+     * Performs the verification against each of the given Tokens. A token failing verification doesn't stop
+     * the others from being verified: its result holds the exception instead.
+     *
+     * @param tokens to verify.
+     * @return the result of each token, in the same order as the given tokens.
+     * @throws IllegalArgumentException if the list of tokens is null.
+     */
+    default List<VerificationResult> verifyAll(List<String> tokens) throws IllegalArgumentException {
+        if (tokens == null) {
+            throw new IllegalArgumentException("The tokens cannot be null.");
+        }
+        List<VerificationResult> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            try {
+                results.add(VerificationResult.success(token, verify(token)));
+            } catch (JWTVerificationException e) {
+                results.add(VerificationResult.failure(token, e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Performs the verification against each of the given Tokens, splitting the work across the given executor.
+     * A token failing verification doesn't stop the others from being verified: its result holds the exception
+     * instead. This method returns once all tokens were verified.
+     *
+     * @param tokens   to verify.
+     * @param executor the executor to run the verifications on.
+     * @return the result of each token, in the same order as the given tokens.
+     * @throws IllegalArgumentException if the list of tokens or the executor is null.
+     */
+    default List<VerificationResult> verifyAll(List<String> tokens, Executor executor)
+            throws IllegalArgumentException {
+        if (executor == null) {
+            throw new IllegalArgumentException("The Executor cannot be null.");
+        }
+        return verifyAll(tokens);
+    }
+
+    /**
+     * Performs the verification against each of the given Tokens. A token failing verification doesn't stop
+     * the others from being verified: its result holds the exception instead.
+     *
+     * @param tokens to verify.
+     * @return the result of each token, in the same order as the given tokens.
+     * @throws IllegalArgumentException if the stream of tokens is null.
+     */
+    default List<VerificationResult> verifyAll(Stream<String> tokens) throws IllegalArgumentException {
+        if (tokens == null) {
+            throw new IllegalArgumentException("The tokens cannot be null.");
+        }
+        return verifyAll(tokens.collect(Collectors.toList()));
+    }
+
+    /**
+     * Performs the verification against each of the given Tokens, splitting the work across the given executor.
+     * A token failing verification doesn't stop the others from being verified: its result holds the exception
+     * instead. This method returns once all tokens were verified.
+     *
+     * @param tokens   to verify.
+     * @param executor the executor to run the verifications on.
+     * @return the result of each token, in the same order as the given tokens.
+     * @throws IllegalArgumentException if the stream of tokens or the executor is null.
+     */
+    default List<VerificationResult> verifyAll(Stream<String> tokens, Executor executor)
+            throws IllegalArgumentException {
+        if (tokens == null) {
+            throw new IllegalArgumentException("The tokens cannot be null.");
+        }
+        return verifyAll(tokens.collect(Collectors.toList()), executor);
+    }
 }
@@ -2,6 +2,7 @@ package com.auth0.jwt.interfaces;
 
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Generic Public/Private Key provider.
@@ -21,6 +22,27 @@ interface KeyProvider<U extends PublicKey, R extends PrivateKey> {
      */
     U getPublicKeyById(String keyId);
 
+    /**
+     * Asynchronous variant of {@link #getPublicKeyById(String)}, used to verify the signature on the asynchronous
+     * JWT verification stage. Implementations that need I/O to find the key should override it to complete the
+     * future once the key is available, instead of blocking the calling thread.
+     * By default, it calls {@link #getPublicKeyById(String)} on the calling thread, blocking it until the key is
+     * found, and returns an already completed future.
+     *
+     * @param keyId the Key Id specified in the Token's Header or null if none is available.
+     *              Provides a hint on which Public Key to use to verify the token's signature.
+     * @return a future completed with the Public Key instance
+     */
+    default CompletableFuture<U> getPublicKeyByIdAsync(String keyId) {
+        CompletableFuture<U> publicKey = new CompletableFuture<>();
+        try {
+            publicKey.complete(getPublicKeyById(keyId));
+        } catch (RuntimeException e) {
+            publicKey.completeExceptionally(e);
+        }
+        return publicKey;
+    }
+
     /**
      * Getter for the Private Key instance. Used to sign the content on the JWT signing stage.
      *
@@ -10,6 +10,11 @@ import java.util.Map;
  */
 public interface Payload {
 
+    /**
+     * Value returned by the epoch second getters when the date-time claim is not available.
+     */
+    long MISSING_NUMERIC_DATE = Long.MIN_VALUE;
+
     /**
      * Get the value of the "iss" claim, or null if it's not available.
      *
@@ -47,6 +52,17 @@ public interface Payload {
         return getExpiresAt() != null ? getExpiresAt().toInstant() : null;
     }
 
+    /**
+     * Get the value of the "exp" claim in seconds since the epoch, or {@link #MISSING_NUMERIC_DATE} if it's not
+     * available. Unlike the other getters of this claim, it doesn't allocate a new object on every call.
+     *
+     * @return the Expiration Time value in epoch seconds or {@link #MISSING_NUMERIC_DATE}.
+     */
+    default long getExpiresAtEpochSecond() {
+        Instant value = getExpiresAtAsInstant();
+        return value != null ? value.getEpochSecond() : MISSING_NUMERIC_DATE;
+    }
+
     /**
      * Get the value of the "nbf" claim, or null if it's not available.
      *
@@ -63,6 +79,17 @@ public interface Payload {
         return getNotBefore() != null ? getNotBefore().toInstant() : null;
     }
 
+    /**
+     * Get the value of the "nbf" claim in seconds since the epoch, or {@link #MISSING_NUMERIC_DATE} if it's not
+     * available. Unlike the other getters of this claim, it doesn't allocate a new object on every call.
+     *
+     * @return the Not Before value in epoch seconds or {@link #MISSING_NUMERIC_DATE}.
+     */
+    default long getNotBeforeEpochSecond() {
+        Instant value = getNotBeforeAsInstant();
+        return value != null ? value.getEpochSecond() : MISSING_NUMERIC_DATE;
+    }
+
     /**
      * Get the value of the "iat" claim, or null if it's not available.
      *
@@ -79,6 +106,17 @@ public interface Payload {
         return getIssuedAt() != null ? getIssuedAt().toInstant() : null;
     }
 
+    /**
+     * Get the value of the "iat" claim in seconds since the epoch, or {@link #MISSING_NUMERIC_DATE} if it's not
+     * available. Unlike the other getters of this claim, it doesn't allocate a new object on every call.
+     *
+     * @return the Issued At value in epoch seconds or {@link #MISSING_NUMERIC_DATE}.
+     */
+    default long getIssuedAtEpochSecond() {
+        Instant value = getIssuedAtAsInstant();
+        return value != null ? value.getEpochSecond() : MISSING_NUMERIC_DATE;
+    }
+
     /**
      * Get the value of the "jti" claim, or null if it's not available.
      *
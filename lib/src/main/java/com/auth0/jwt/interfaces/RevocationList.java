@@ -0,0 +1,20 @@
+package com.auth0.jwt.interfaces;
+
+/**
+ * Source of the tokens that have been revoked before their expiration, checked by the
+ * {@link com.auth0.jwt.JWTVerifier} once a token's signature and claims have been verified.
+ * <p>
+ * Implementations are called on every verification and must be thread-safe.
+ *
+ * @see com.auth0.jwt.revocation.TokenDenylist
+ */
+public interface RevocationList {
+
+    /**
+     * Whether the given token has been revoked.
+     *
+     * @param jwt the verified and decoded JWT.
+     * @return true if the token has been revoked, false otherwise.
+     */
+    boolean isRevoked(DecodedJWT jwt);
+}
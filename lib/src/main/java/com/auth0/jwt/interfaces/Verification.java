@@ -2,6 +2,7 @@ package com.auth0.jwt.interfaces;
 
 import com.auth0.jwt.JWTVerifier;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.function.BiPredicate;
@@ -258,6 +259,59 @@ public interface Verification {
      */
     Verification ignoreIssuedAt();
 
+    /**
+     * Keep up to {@code maxSize} successfully verified tokens for at most {@code ttl}, so that verifying the same
+     * token again only re-runs the Expires At, Not Before and Issued At checks. An entry never outlives the token's
+     * Expires At ("exp") claim and failed verifications are never stored. Unless this method is called, the
+     * verifier doesn't cache any token.
+     * <p>
+     * The Verification returned by {@link com.auth0.jwt.JWT#require} supports it. The default implementation,
+     * only used by other implementations of this interface, throws an {@link UnsupportedOperationException}.
+     *
+     * @param maxSize the maximum number of verified tokens to keep.
+     * @param ttl     the maximum time a verified token is kept.
+     * @return this same Verification instance.
+     * @throws IllegalArgumentException      if the size is not positive or the ttl is null, zero or negative.
+     * @throws UnsupportedOperationException if this implementation doesn't support caching verified tokens.
+     */
+    default Verification withVerifiedTokenCache(int maxSize, Duration ttl) throws IllegalArgumentException {
+        throw new UnsupportedOperationException("Caching verified tokens is not supported by this Verification.");
+    }
+
+    /**
+     * Reject the tokens that the given revocation list reports as revoked, with a
+     * {@link com.auth0.jwt.exceptions.TokenRevokedException}. The list is checked after the token's signature and
+     * claims have been verified, and again every time a cached token is verified. Unless this method is called,
+     * the verifier doesn't check any revocation list.
+     * <p>
+     * The Verification returned by {@link com.auth0.jwt.JWT#require} supports it. The default implementation,
+     * only used by other implementations of this interface, throws an {@link UnsupportedOperationException}.
+     *
+     * @param revocationList the list of revoked tokens.
+     * @return this same Verification instance.
+     * @throws IllegalArgumentException      if the revocation list is null.
+     * @throws UnsupportedOperationException if this implementation doesn't support revocation lists.
+     */
+    default Verification withRevocationList(RevocationList revocationList) throws IllegalArgumentException {
+        throw new UnsupportedOperationException("Revocation lists are not supported by this Verification.");
+    }
+
+    /**
+     * Report the outcome of each verification, and the time spent in each of its stages, to the given listener.
+     * Unless this method is called, the verifier doesn't time the stages.
+     * <p>
+     * The Verification returned by {@link com.auth0.jwt.JWT#require} supports it. The default implementation,
+     * only used by other implementations of this interface, throws an {@link UnsupportedOperationException}.
+     *
+     * @param listener the listener of the verifications.
+     * @return this same Verification instance.
+     * @throws IllegalArgumentException      if the listener is null.
+     * @throws UnsupportedOperationException if this implementation doesn't support verification listeners.
+     */
+    default Verification withVerificationListener(VerificationListener listener) throws IllegalArgumentException {
+        throw new UnsupportedOperationException("Verification listeners are not supported by this Verification.");
+    }
+
     /**
      * Creates a new and reusable instance of the JWTVerifier with the configuration already provided.
      *
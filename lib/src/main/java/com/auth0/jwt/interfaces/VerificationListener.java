@@ -0,0 +1,32 @@
+package com.auth0.jwt.interfaces;
+
+import com.auth0.jwt.VerificationTimings;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+
+/**
+ * Receives the outcome of each verification performed by a {@link com.auth0.jwt.JWTVerifier}, along with the time
+ * spent in each of its stages, so that verification metrics can be recorded with any metrics library.
+ * <p>
+ * Listeners are called on the thread that completed the verification, once for each token, before the
+ * verification returns. Implementations must be thread-safe and fast, and shouldn't throw.
+ */
+public interface VerificationListener {
+
+    /**
+     * Called when a token was successfully verified.
+     *
+     * @param jwt     the verified and decoded JWT.
+     * @param timings the time spent in each stage of the verification.
+     */
+    void onSuccess(DecodedJWT jwt, VerificationTimings timings);
+
+    /**
+     * Called when the verification of a token failed.
+     *
+     * @param exception the exception the verification is failing with.
+     * @param claimName the name of the claim that failed the verification, or null if the failure is not about a
+     *                  claim.
+     * @param timings   the time spent in each stage of the verification, up to the failure.
+     */
+    void onFailure(JWTVerificationException exception, String claimName, VerificationTimings timings);
+}
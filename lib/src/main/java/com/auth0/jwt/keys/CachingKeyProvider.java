@@ -0,0 +1,255 @@
+package com.auth0.jwt.keys;
+
+import com.auth0.jwt.interfaces.ECDSAKeyProvider;
+import com.auth0.jwt.interfaces.EdDSAKeyProvider;
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Decorates an {@link RSAKeyProvider}, {@link ECDSAKeyProvider} or {@link EdDSAKeyProvider} with a bounded cache
+ * of the Public Keys it returns, so that the wrapped provider is only asked for a Key Id once per time to live.
+ * <p>
+ * Key Ids the wrapped provider didn't find a key for are remembered for a shorter time to live, and a burst of
+ * lookups for the same uncached Key Id triggers a single call to the wrapped provider, with the other callers
+ * waiting for its result. Asynchronous lookups share the same cache. A miss is loaded with the wrapped provider's
+ * own asynchronous lookup or, if an executor was set with {@link Builder#withExecutor(Executor)}, with its
+ * blocking lookup run on that executor, so that providers that don't override their asynchronous lookup don't
+ * block the calling thread either. The Private Key and its Id are always obtained from the wrapped provider.
+ * <pre>
+ * RSAKeyProvider provider = CachingKeyProvider.builder()
+ *         .withTtl(Duration.ofMinutes(10))
+ *         .withMaxSize(50)
+ *         .buildRSA(jwksProvider);
+ * Algorithm algorithm = Algorithm.RSA256(provider);
+ * </pre>
+ * The built providers are thread-safe.
+ */
+public final class CachingKeyProvider {
+
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(15);
+    static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(30);
+    static final int DEFAULT_MAX_SIZE = 100;
+
+    private CachingKeyProvider() {
+    }
+
+    /**
+     * Returns a builder used to configure the cache and wrap a Key Provider with it.
+     *
+     * @return a new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Configures the cache used by the providers built from it.
+     * Note that this class is <strong>not</strong> thread-safe.
+     */
+    public static final class Builder {
+        private Duration ttl = DEFAULT_TTL;
+        private Duration negativeTtl = DEFAULT_NEGATIVE_TTL;
+        private int maxSize = DEFAULT_MAX_SIZE;
+        private Executor executor;
+        private LongSupplier nanoTime = System::nanoTime;
+
+        Builder() {
+        }
+
+        /**
+         * Sets how long a Public Key is kept after it was obtained from the wrapped provider.
+         * By default, keys are kept for 15 minutes.
+         *
+         * @param ttl the time to live of each Public Key.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the ttl is null, zero or negative.
+         */
+        public Builder withTtl(Duration ttl) throws IllegalArgumentException {
+            if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("The TTL must be a positive duration.");
+            }
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * Sets how long a Key Id the wrapped provider returned no key for is remembered, during which lookups of
+         * that Key Id return null without asking the wrapped provider again. By default, it's 30 seconds.
+         *
+         * @param negativeTtl the time to live of each unknown Key Id, or zero to not remember them.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the negative ttl is null or negative.
+         */
+        public Builder withNegativeTtl(Duration negativeTtl) throws IllegalArgumentException {
+            if (negativeTtl == null || negativeTtl.isNegative()) {
+                throw new IllegalArgumentException("The negative TTL can't be null or negative.");
+            }
+            this.negativeTtl = negativeTtl;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of Key Ids kept, including the unknown ones. By default, it's 100.
+         *
+         * @param maxSize the maximum number of entries in the cache.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the size is not positive.
+         */
+        public Builder withMaxSize(int maxSize) throws IllegalArgumentException {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("The cache size must be greater than zero.");
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Sets the executor that asynchronous lookups missing the cache load the key on, by calling the wrapped
+         * provider's {@code getPublicKeyById}. Concurrent misses of the same Key Id share a single load.
+         * By default, misses call the wrapped provider's {@code getPublicKeyByIdAsync}, which blocks the calling
+         * thread unless the wrapped provider overrides it.
+         *
+         * @param executor the executor loading the keys of asynchronous lookups.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the executor is null.
+         */
+        public Builder withExecutor(Executor executor) throws IllegalArgumentException {
+            if (executor == null) {
+                throw new IllegalArgumentException("The Executor cannot be null.");
+            }
+            this.executor = executor;
+            return this;
+        }
+
+        //Visible for testing
+        Builder withNanoTime(LongSupplier nanoTime) {
+            this.nanoTime = nanoTime;
+            return this;
+        }
+
+        /**
+         * Wraps the given RSA Key Provider with a cache of its Public Keys.
+         *
+         * @param provider the provider to obtain the keys from.
+         * @return a new caching RSA Key Provider.
+         * @throws IllegalArgumentException if the provider is null.
+         */
+        public RSAKeyProvider buildRSA(RSAKeyProvider provider) throws IllegalArgumentException {
+            assertNonNull(provider);
+            KeyCache<RSAPublicKey> cache = newCache(provider::getPublicKeyById, provider::getPublicKeyByIdAsync);
+            return new RSAKeyProvider() {
+                @Override
+                public RSAPublicKey getPublicKeyById(String keyId) {
+                    return cache.get(keyId);
+                }
+
+                @Override
+                public CompletableFuture<RSAPublicKey> getPublicKeyByIdAsync(String keyId) {
+                    return cache.getAsync(keyId);
+                }
+
+                @Override
+                public RSAPrivateKey getPrivateKey() {
+                    return provider.getPrivateKey();
+                }
+
+                @Override
+                public String getPrivateKeyId() {
+                    return provider.getPrivateKeyId();
+                }
+            };
+        }
+
+        /**
+         * Wraps the given ECDSA Key Provider with a cache of its Public Keys.
+         *
+         * @param provider the provider to obtain the keys from.
+         * @return a new caching ECDSA Key Provider.
+         * @throws IllegalArgumentException if the provider is null.
+         */
+        public ECDSAKeyProvider buildECDSA(ECDSAKeyProvider provider) throws IllegalArgumentException {
+            assertNonNull(provider);
+            KeyCache<ECPublicKey> cache = newCache(provider::getPublicKeyById, provider::getPublicKeyByIdAsync);
+            return new ECDSAKeyProvider() {
+                @Override
+                public ECPublicKey getPublicKeyById(String keyId) {
+                    return cache.get(keyId);
+                }
+
+                @Override
+                public CompletableFuture<ECPublicKey> getPublicKeyByIdAsync(String keyId) {
+                    return cache.getAsync(keyId);
+                }
+
+                @Override
+                public ECPrivateKey getPrivateKey() {
+                    return provider.getPrivateKey();
+                }
+
+                @Override
+                public String getPrivateKeyId() {
+                    return provider.getPrivateKeyId();
+                }
+            };
+        }
+
+        /**
+         * Wraps the given EdDSA Key Provider with a cache of its Public Keys.
+         *
+         * @param provider the provider to obtain the keys from.
+         * @return a new caching EdDSA Key Provider.
+         * @throws IllegalArgumentException if the provider is null.
+         */
+        public EdDSAKeyProvider buildEdDSA(EdDSAKeyProvider provider) throws IllegalArgumentException {
+            assertNonNull(provider);
+            KeyCache<PublicKey> cache = newCache(provider::getPublicKeyById, provider::getPublicKeyByIdAsync);
+            return new EdDSAKeyProvider() {
+                @Override
+                public PublicKey getPublicKeyById(String keyId) {
+                    return cache.get(keyId);
+                }
+
+                @Override
+                public CompletableFuture<PublicKey> getPublicKeyByIdAsync(String keyId) {
+                    return cache.getAsync(keyId);
+                }
+
+                @Override
+                public PrivateKey getPrivateKey() {
+                    return provider.getPrivateKey();
+                }
+
+                @Override
+                public String getPrivateKeyId() {
+                    return provider.getPrivateKeyId();
+                }
+            };
+        }
+
+        private <K> KeyCache<K> newCache(Function<String, K> loader,
+                                         Function<String, CompletableFuture<K>> asyncLoader) {
+            if (executor != null) {
+                Executor loadingExecutor = executor;
+                asyncLoader = keyId -> CompletableFuture.supplyAsync(() -> loader.apply(keyId), loadingExecutor);
+            }
+            return new KeyCache<>(loader, asyncLoader, ttl.toNanos(), negativeTtl.toNanos(), maxSize, nanoTime);
+        }
+
+        private static void assertNonNull(Object provider) {
+            if (provider == null) {
+                throw new IllegalArgumentException("The Key Provider cannot be null.");
+            }
+        }
+    }
+}
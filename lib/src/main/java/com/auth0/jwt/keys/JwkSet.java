@@ -0,0 +1,156 @@
+package com.auth0.jwt.keys;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable set of the RSA and EC signing keys of a JWK Set, indexed by their Key Id.
+ * <p>
+ * Keys of other types, keys meant for encryption and keys with invalid parameters are left out.
+ * <p>
+ * This class is thread-safe.
+ */
+final class JwkSet {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Map<String, PublicKey> keysById;
+    private final List<PublicKey> keys;
+
+    private JwkSet(Map<String, PublicKey> keysById, List<PublicKey> keys) {
+        this.keysById = keysById;
+        this.keys = keys;
+    }
+
+    /**
+     * Parses the JSON document of a JWK Set.
+     *
+     * @param json the JWK Set.
+     * @return the signing keys of the set.
+     * @throws IOException if the document is not valid JSON or doesn't contain a "keys" array.
+     */
+    static JwkSet parse(String json) throws IOException {
+        JsonNode keysNode = json == null ? null : MAPPER.readTree(json).get("keys");
+        if (keysNode == null || !keysNode.isArray()) {
+            throw new IOException("The JWK Set doesn't contain a 'keys' array.");
+        }
+        Map<String, PublicKey> keysById = new HashMap<>();
+        List<PublicKey> keys = new ArrayList<>();
+        for (JsonNode jwk : keysNode) {
+            String use = text(jwk, "use");
+            if (use != null && !"sig".equals(use)) {
+                continue;
+            }
+            PublicKey key = toPublicKey(jwk);
+            if (key == null) {
+                continue;
+            }
+            keys.add(key);
+            String keyId = text(jwk, "kid");
+            if (keyId != null) {
+                keysById.putIfAbsent(keyId, key);
+            }
+        }
+        return new JwkSet(Collections.unmodifiableMap(keysById), Collections.unmodifiableList(keys));
+    }
+
+    /**
+     * Returns the key of the given type with the given Key Id. When no Key Id is given, the key of that type is
+     * returned only if the set holds exactly one of them.
+     *
+     * @param keyId the Key Id, or null.
+     * @param type  the expected class of the key.
+     * @param <K>   the class that represents the Public Key
+     * @return the key, or null if there's none.
+     */
+    <K extends PublicKey> K get(String keyId, Class<K> type) {
+        if (keyId != null) {
+            PublicKey key = keysById.get(keyId);
+            return type.isInstance(key) ? type.cast(key) : null;
+        }
+        K found = null;
+        for (PublicKey key : keys) {
+            if (type.isInstance(key)) {
+                if (found != null) {
+                    return null;
+                }
+                found = type.cast(key);
+            }
+        }
+        return found;
+    }
+
+    int size() {
+        return keys.size();
+    }
+
+    private static PublicKey toPublicKey(JsonNode jwk) {
+        String keyType = text(jwk, "kty");
+        try {
+            if ("RSA".equals(keyType)) {
+                BigInteger modulus = unsignedInteger(jwk, "n");
+                BigInteger exponent = unsignedInteger(jwk, "e");
+                if (modulus == null || exponent == null) {
+                    return null;
+                }
+                return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+            }
+            if ("EC".equals(keyType)) {
+                String curve = curveName(text(jwk, "crv"));
+                BigInteger x = unsignedInteger(jwk, "x");
+                BigInteger y = unsignedInteger(jwk, "y");
+                if (curve == null || x == null || y == null) {
+                    return null;
+                }
+                AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+                parameters.init(new ECGenParameterSpec(curve));
+                ECParameterSpec spec = parameters.getParameterSpec(ECParameterSpec.class);
+                return KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(new ECPoint(x, y), spec));
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return null;
+        }
+        return null;
+    }
+
+    private static String curveName(String crv) {
+        if ("P-256".equals(crv)) {
+            return "secp256r1";
+        }
+        if ("P-384".equals(crv)) {
+            return "secp384r1";
+        }
+        if ("P-521".equals(crv)) {
+            return "secp521r1";
+        }
+        return null;
+    }
+
+    private static BigInteger unsignedInteger(JsonNode jwk, String name) {
+        String value = text(jwk, name);
+        return value == null ? null : new BigInteger(1, Base64.getUrlDecoder().decode(value));
+    }
+
+    private static String text(JsonNode jwk, String name) {
+        JsonNode node = jwk.get(name);
+        return node != null && node.isTextual() ? node.asText() : null;
+    }
+}
@@ -0,0 +1,342 @@
+package com.auth0.jwt.keys;
+
+import com.auth0.jwt.interfaces.ECDSAKeyProvider;
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+
+import java.io.IOException;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Provides the Public Keys of a JWK Set, as described in RFC 7517, to verify tokens signed with RSA or ECDSA.
+ * <p>
+ * The JWK Set is read from its {@link JwksSource} when the provider is built and then periodically on a background
+ * scheduler. Lookups are served from an immutable snapshot of the last JWK Set read successfully and never wait for
+ * a refresh: if a refresh fails, the previous keys are kept, the failure is given to the listener set with
+ * {@link Builder#withRefreshFailureListener(Consumer)} and it's available from {@link #getLastRefreshFailure()}
+ * until the next successful refresh. A lookup of an unknown Key Id returns null and triggers
+ * a background refresh, at most once per minimum refresh interval, so that newly published keys are picked up
+ * without waiting for the next scheduled refresh.
+ * <pre>
+ * JwksKeyProvider jwks = JwksKeyProvider.builder(JwksSource.fromFile(Paths.get("jwks.json")))
+ *         .withRefreshInterval(Duration.ofMinutes(5))
+ *         .build();
+ * Algorithm algorithm = Algorithm.RSA256(jwks.forRSA());
+ * </pre>
+ * This class provides Public Keys only, the views' Private Key and Private Key Id are always null.
+ * Close the provider to stop its background refreshes.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class JwksKeyProvider implements AutoCloseable {
+
+    static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMinutes(5);
+    static final Duration DEFAULT_MIN_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    private final JwksSource source;
+    private final long minRefreshIntervalNanos;
+    private final LongSupplier nanoTime;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    private final AtomicReference<JwkSet> keys;
+    private final AtomicLong lastRefreshNanos;
+    private final AtomicBoolean refreshing;
+    private final Consumer<Exception> refreshFailureListener;
+    private volatile Exception lastRefreshFailure;
+    private final ScheduledFuture<?> scheduledRefresh;
+    private final RSAKeyProvider rsaView;
+    private final ECDSAKeyProvider ecdsaView;
+
+    private JwksKeyProvider(Builder builder) throws IOException {
+        this.source = builder.source;
+        this.minRefreshIntervalNanos = builder.minRefreshInterval.toNanos();
+        this.nanoTime = builder.nanoTime;
+        this.lastRefreshNanos = new AtomicLong(nanoTime.getAsLong());
+        this.keys = new AtomicReference<>(JwkSet.parse(source.fetch()));
+        this.refreshing = new AtomicBoolean();
+        this.refreshFailureListener = builder.refreshFailureListener;
+
+        this.ownsScheduler = builder.scheduler == null;
+        this.scheduler = ownsScheduler ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }) : builder.scheduler;
+        long interval = builder.refreshInterval.toNanos();
+        try {
+            this.scheduledRefresh = scheduler.scheduleWithFixedDelay(this::refresh, interval, interval,
+                    TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            if (ownsScheduler) {
+                scheduler.shutdownNow();
+            }
+            throw e;
+        }
+
+        this.rsaView = new RSAKeyProvider() {
+            @Override
+            public RSAPublicKey getPublicKeyById(String keyId) {
+                return lookup(keyId, RSAPublicKey.class);
+            }
+
+            @Override
+            public RSAPrivateKey getPrivateKey() {
+                return null;
+            }
+
+            @Override
+            public String getPrivateKeyId() {
+                return null;
+            }
+        };
+        this.ecdsaView = new ECDSAKeyProvider() {
+            @Override
+            public ECPublicKey getPublicKeyById(String keyId) {
+                return lookup(keyId, ECPublicKey.class);
+            }
+
+            @Override
+            public ECPrivateKey getPrivateKey() {
+                return null;
+            }
+
+            @Override
+            public String getPrivateKeyId() {
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Returns a builder for a provider reading its JWK Set from the given source.
+     *
+     * @param source the source of the JWK Set.
+     * @return a new builder.
+     * @throws IllegalArgumentException if the source is null.
+     */
+    public static Builder builder(JwksSource source) throws IllegalArgumentException {
+        if (source == null) {
+            throw new IllegalArgumentException("The JWKS source cannot be null.");
+        }
+        return new Builder(source);
+    }
+
+    /**
+     * Returns a view of this provider serving its RSA keys.
+     *
+     * @return an RSA Key Provider backed by this JWK Set.
+     */
+    public RSAKeyProvider forRSA() {
+        return rsaView;
+    }
+
+    /**
+     * Returns a view of this provider serving its EC keys.
+     *
+     * @return an ECDSA Key Provider backed by this JWK Set.
+     */
+    public ECDSAKeyProvider forECDSA() {
+        return ecdsaView;
+    }
+
+    /**
+     * Reads the JWK Set from its source and replaces the current keys with it. If it can't be read or parsed,
+     * the current keys are kept and the failure is reported to the refresh failure listener. This is called by
+     * the background scheduler and only needs to be called directly to force a refresh.
+     *
+     * @return true if the keys were refreshed, false otherwise.
+     */
+    public boolean refresh() {
+        lastRefreshNanos.set(nanoTime.getAsLong());
+        try {
+            keys.set(JwkSet.parse(source.fetch()));
+            lastRefreshFailure = null;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            lastRefreshFailure = e;
+            notifyRefreshFailure(e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the exception the last refresh failed with, or null if the last refresh succeeded or none was
+     * attempted since the provider was built.
+     *
+     * @return the failure of the last refresh, or null.
+     */
+    public Exception getLastRefreshFailure() {
+        return lastRefreshFailure;
+    }
+
+    /**
+     * Stops the background refreshes. The keys read so far remain available.
+     */
+    @Override
+    public void close() {
+        scheduledRefresh.cancel(false);
+        if (ownsScheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    int size() {
+        return keys.get().size();
+    }
+
+    private <K extends PublicKey> K lookup(String keyId, Class<K> type) {
+        K key = keys.get().get(keyId, type);
+        if (key == null) {
+            requestRefresh();
+        }
+        return key;
+    }
+
+    private void requestRefresh() {
+        if (!isRefreshAllowed() || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        if (!isRefreshAllowed()) {
+            refreshing.set(false);
+            return;
+        }
+        try {
+            scheduler.execute(() -> {
+                try {
+                    refresh();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    private void notifyRefreshFailure(Exception failure) {
+        if (refreshFailureListener == null) {
+            return;
+        }
+        try {
+            refreshFailureListener.accept(failure);
+        } catch (RuntimeException e) {
+            // a failing listener must not cancel the scheduled refreshes
+        }
+    }
+
+    private boolean isRefreshAllowed() {
+        return nanoTime.getAsLong() - lastRefreshNanos.get() >= minRefreshIntervalNanos;
+    }
+
+    /**
+     * Configures a {@link JwksKeyProvider}.
+     * Note that this class is <strong>not</strong> thread-safe.
+     */
+    public static final class Builder {
+        private final JwksSource source;
+        private Duration refreshInterval = DEFAULT_REFRESH_INTERVAL;
+        private Duration minRefreshInterval = DEFAULT_MIN_REFRESH_INTERVAL;
+        private ScheduledExecutorService scheduler;
+        private Consumer<Exception> refreshFailureListener;
+        private LongSupplier nanoTime = System::nanoTime;
+
+        Builder(JwksSource source) {
+            this.source = source;
+        }
+
+        /**
+         * Sets how often the JWK Set is read again in the background. By default, it's every 5 minutes.
+         *
+         * @param refreshInterval the delay between the end of a refresh and the start of the next one.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the interval is null, zero or negative.
+         */
+        public Builder withRefreshInterval(Duration refreshInterval) throws IllegalArgumentException {
+            if (refreshInterval == null || refreshInterval.isNegative() || refreshInterval.isZero()) {
+                throw new IllegalArgumentException("The refresh interval must be a positive duration.");
+            }
+            this.refreshInterval = refreshInterval;
+            return this;
+        }
+
+        /**
+         * Sets the minimum time between a refresh and one triggered by the lookup of an unknown Key Id.
+         * By default, it's 30 seconds.
+         *
+         * @param minRefreshInterval the minimum time between refreshes triggered by lookups.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the interval is null or negative.
+         */
+        public Builder withMinRefreshInterval(Duration minRefreshInterval) throws IllegalArgumentException {
+            if (minRefreshInterval == null || minRefreshInterval.isNegative()) {
+                throw new IllegalArgumentException("The minimum refresh interval can't be null or negative.");
+            }
+            this.minRefreshInterval = minRefreshInterval;
+            return this;
+        }
+
+        /**
+         * Sets the scheduler used to refresh the JWK Set. It's not shut down when the provider is closed.
+         * By default, the provider uses its own single daemon thread.
+         *
+         * @param scheduler the scheduler running the refreshes.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the scheduler is null.
+         */
+        public Builder withScheduler(ScheduledExecutorService scheduler) throws IllegalArgumentException {
+            if (scheduler == null) {
+                throw new IllegalArgumentException("The scheduler cannot be null.");
+            }
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Sets the listener told about each refresh that fails, with the exception it failed with, so that keys
+         * going stale can be noticed. It's called on the thread that ran the refresh, and any exception it throws
+         * is ignored. By default, failures are only available from {@link JwksKeyProvider#getLastRefreshFailure()}.
+         *
+         * @param refreshFailureListener the listener of the failed refreshes.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the listener is null.
+         */
+        public Builder withRefreshFailureListener(Consumer<Exception> refreshFailureListener)
+                throws IllegalArgumentException {
+            if (refreshFailureListener == null) {
+                throw new IllegalArgumentException("The refresh failure listener cannot be null.");
+            }
+            this.refreshFailureListener = refreshFailureListener;
+            return this;
+        }
+
+        //Visible for testing
+        Builder withNanoTime(LongSupplier nanoTime) {
+            this.nanoTime = nanoTime;
+            return this;
+        }
+
+        /**
+         * Reads the JWK Set for the first time and starts the background refreshes.
+         *
+         * @return a new JwksKeyProvider.
+         * @throws IOException if the JWK Set couldn't be read or parsed.
+         */
+        public JwksKeyProvider build() throws IOException {
+            return new JwksKeyProvider(this);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.auth0.jwt.keys;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Source of the JSON document of a JWK Set, as described in RFC 7517, read by {@link JwksKeyProvider} on each
+ * refresh. Implementations performing network calls should set their own timeouts, as a refresh waits for
+ * {@link #fetch()} to return.
+ */
+@FunctionalInterface
+public interface JwksSource {
+
+    /**
+     * Reads the current JWK Set.
+     *
+     * @return the JSON document of the JWK Set.
+     * @throws IOException if the JWK Set couldn't be read.
+     */
+    String fetch() throws IOException;
+
+    /**
+     * Creates a source that reads the JWK Set from the given file on each refresh.
+     *
+     * @param path the path of the file holding the JWK Set.
+     * @return a new source.
+     * @throws IllegalArgumentException if the path is null.
+     */
+    static JwksSource fromFile(Path path) throws IllegalArgumentException {
+        if (path == null) {
+            throw new IllegalArgumentException("The path cannot be null.");
+        }
+        return () -> new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a source that reads the JWK Set from the given classpath resource on each refresh, using the
+     * class loader of this library.
+     *
+     * @param resource the name of the resource holding the JWK Set.
+     * @return a new source.
+     * @throws IllegalArgumentException if the resource name is null.
+     */
+    static JwksSource fromClasspath(String resource) throws IllegalArgumentException {
+        if (resource == null) {
+            throw new IllegalArgumentException("The resource name cannot be null.");
+        }
+        return () -> {
+            InputStream in = JwksSource.class.getClassLoader().getResourceAsStream(resource);
+            if (in == null) {
+                throw new FileNotFoundException(String.format("The resource '%s' was not found.", resource));
+            }
+            try (InputStream stream = in) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int read;
+                while ((read = stream.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+                return new String(out.toByteArray(), StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
@@ -0,0 +1,215 @@
+package com.auth0.jwt.keys;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache of Public Keys by Key Id, with a time to live for each entry.
+ * <p>
+ * Ids for which the loader returned null are remembered for a separate, usually shorter, time to live. Concurrent
+ * lookups of the same missing Id share a single call to the loader. When the cache is full, expired entries are
+ * purged first, then entries for unknown Ids; a known key is only evicted to make room for another known key.
+ * Lookups of cached keys never block, while storing a loaded key is serialized, so that the cache never holds more
+ * than its maximum size.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <K> the class that represents the Public Key
+ */
+final class KeyCache<K> {
+
+    private static final Object NULL_KEY_ID = new Object();
+
+    private final Function<String, K> loader;
+    private final Function<String, CompletableFuture<K>> asyncLoader;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final int maxSize;
+    private final LongSupplier nanoTime;
+    private final Map<Object, Entry<K>> entries;
+    private final Map<Object, CompletableFuture<K>> loading;
+
+    KeyCache(Function<String, K> loader, Function<String, CompletableFuture<K>> asyncLoader, long ttlNanos,
+             long negativeTtlNanos, int maxSize, LongSupplier nanoTime) {
+        this.loader = loader;
+        this.asyncLoader = asyncLoader;
+        this.ttlNanos = ttlNanos;
+        this.negativeTtlNanos = negativeTtlNanos;
+        this.maxSize = maxSize;
+        this.nanoTime = nanoTime;
+        this.entries = new ConcurrentHashMap<>();
+        this.loading = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the cached key for the given Id, loading it if it's missing or expired.
+     *
+     * @param keyId the Key Id, or null.
+     * @return the key, or null if the loader didn't find one.
+     */
+    K get(String keyId) {
+        Object cacheKey = keyId != null ? keyId : NULL_KEY_ID;
+        Entry<K> entry = freshEntry(cacheKey);
+        if (entry != null) {
+            return entry.key;
+        }
+        return join(load(keyId, cacheKey));
+    }
+
+    /**
+     * Returns the cached key for the given Id, loading it with the asynchronous loader if it's missing or expired.
+     * The calling thread never waits for the loader.
+     *
+     * @param keyId the Key Id, or null.
+     * @return a future completed with the key, or with null if the loader didn't find one.
+     */
+    CompletableFuture<K> getAsync(String keyId) {
+        Object cacheKey = keyId != null ? keyId : NULL_KEY_ID;
+        Entry<K> entry = freshEntry(cacheKey);
+        if (entry != null) {
+            return CompletableFuture.completedFuture(entry.key);
+        }
+        CompletableFuture<K> future = new CompletableFuture<>();
+        CompletableFuture<K> inFlight = startLoading(cacheKey, future);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        CompletableFuture<K> loaded;
+        try {
+            loaded = asyncLoader.apply(keyId);
+        } catch (RuntimeException | Error e) {
+            loading.remove(cacheKey, future);
+            future.completeExceptionally(e);
+            return future;
+        }
+        loaded.whenComplete((key, error) -> {
+            if (error == null) {
+                store(cacheKey, key);
+            }
+            loading.remove(cacheKey, future);
+            if (error == null) {
+                future.complete(key);
+            } else {
+                future.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            }
+        });
+        return future;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private Entry<K> freshEntry(Object cacheKey) {
+        Entry<K> entry = entries.get(cacheKey);
+        return entry != null && !entry.isExpired(nanoTime.getAsLong()) ? entry : null;
+    }
+
+    /**
+     * Registers the given future as the load of the given Id, unless another load is in flight. A load that
+     * finished since the caller missed the cache is not repeated: its key completes the given future instead.
+     *
+     * @return the future of the load to wait for, or null if the caller must run the load and complete the future.
+     */
+    private CompletableFuture<K> startLoading(Object cacheKey, CompletableFuture<K> future) {
+        CompletableFuture<K> inFlight = loading.putIfAbsent(cacheKey, future);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        // a load stores its key before it's unregistered, so a key loaded since the miss is found here
+        Entry<K> entry = freshEntry(cacheKey);
+        if (entry == null) {
+            return null;
+        }
+        loading.remove(cacheKey, future);
+        future.complete(entry.key);
+        return future;
+    }
+
+    private CompletableFuture<K> load(String keyId, Object cacheKey) {
+        CompletableFuture<K> future = new CompletableFuture<>();
+        CompletableFuture<K> inFlight = startLoading(cacheKey, future);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        try {
+            K key = loader.apply(keyId);
+            store(cacheKey, key);
+            future.complete(key);
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+        } finally {
+            loading.remove(cacheKey, future);
+        }
+        return future;
+    }
+
+    private void store(Object cacheKey, K key) {
+        long ttl = key != null ? ttlNanos : negativeTtlNanos;
+        if (ttl <= 0) {
+            return;
+        }
+        long now = nanoTime.getAsLong();
+        // stores are serialized, so that concurrent loads of different Ids can't grow the cache past its size
+        synchronized (entries) {
+            if (!entries.containsKey(cacheKey) && entries.size() >= maxSize && !makeRoom(now, key != null)) {
+                return;
+            }
+            entries.put(cacheKey, new Entry<>(key, now + ttl));
+        }
+    }
+
+    private boolean makeRoom(long now, boolean evictKnownKeys) {
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        if (entries.size() < maxSize) {
+            return true;
+        }
+        entries.values().removeIf(entry -> entry.key == null);
+        if (entries.size() < maxSize) {
+            return true;
+        }
+        if (!evictKnownKeys) {
+            return false;
+        }
+        Iterator<Entry<K>> iterator = entries.values().iterator();
+        while (entries.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        return true;
+    }
+
+    private static <K> K join(CompletableFuture<K> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry<K> {
+        final K key;
+        final long expiresAtNanos;
+
+        Entry(K key, long expiresAtNanos) {
+            this.key = key;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
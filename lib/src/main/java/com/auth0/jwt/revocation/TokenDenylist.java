@@ -0,0 +1,395 @@
+package com.auth0.jwt.revocation;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.Payload;
+import com.auth0.jwt.interfaces.RevocationList;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * In-memory {@link RevocationList} of revoked tokens, keyed on their JWT Id ("jti") claim, or on the whole token
+ * when it has no JWT Id. Entries are removed once the token's Expires At ("exp") claim has passed, since the
+ * token would be rejected by the verification anyway.
+ * <p>
+ * Each entry is stored as a 64-bit fingerprint of its key, taken from its SHA-256 hash, along with its expiration
+ * in epoch seconds: between 17 and 35 bytes per revoked token, depending on how full the table is. Lookups go
+ * through a Bloom filter first, so that tokens that were never revoked, which are most of them, rarely touch the
+ * table. Lookups don't take a lock, and only wait for a revocation or a snapshot load they overlap with.
+ * <p>
+ * Note that JWT Ids are only unique per issuer. When the tokens of several issuers are verified, each issuer
+ * should have its own denylist.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class TokenDenylist implements RevocationList {
+
+    private static final int SNAPSHOT_MAGIC = 0x4a574444;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int MIN_CAPACITY = 64;
+    private static final int MAX_ENTRIES = 1 << 29;
+    private static final int NEVER = -1;
+    private static final byte JWT_ID_KEY = 0;
+    private static final byte TOKEN_KEY = 1;
+
+    private final Clock clock;
+    private final StampedLock lock;
+    private final ThreadLocal<MessageDigest> digests;
+    private Table table;
+    private int size;
+
+    /**
+     * Creates an empty denylist.
+     */
+    public TokenDenylist() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty denylist, with room for the given number of revoked tokens before it has to grow.
+     *
+     * @param expectedSize the number of revoked tokens expected.
+     * @throws IllegalArgumentException if the expected size is negative.
+     */
+    public TokenDenylist(int expectedSize) throws IllegalArgumentException {
+        this(expectedSize, Clock.systemUTC());
+    }
+
+    //Visible for testing
+    TokenDenylist(int expectedSize, Clock clock) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size can't be negative.");
+        }
+        this.clock = clock;
+        this.lock = new StampedLock();
+        this.digests = ThreadLocal.withInitial(TokenDenylist::sha256);
+        this.table = new Table(capacityFor(expectedSize));
+    }
+
+    /**
+     * Revokes the given token until its Expires At ("exp") claim, or forever if it doesn't have one.
+     *
+     * @param jwt the token to revoke.
+     * @throws IllegalArgumentException if the token is null.
+     */
+    public void revoke(DecodedJWT jwt) throws IllegalArgumentException {
+        if (jwt == null) {
+            throw new IllegalArgumentException("The JWT cannot be null.");
+        }
+        long expiresAt = jwt.getExpiresAtEpochSecond();
+        add(fingerprintOf(jwt), expiresAt == Payload.MISSING_NUMERIC_DATE ? NEVER : expirationOf(expiresAt));
+    }
+
+    /**
+     * Revokes the tokens with the given JWT Id ("jti") until the given instant.
+     *
+     * @param jwtId     the JWT Id of the tokens to revoke.
+     * @param expiresAt the instant after which the tokens are expired, or null to revoke them forever.
+     * @throws IllegalArgumentException if the JWT Id is null.
+     */
+    public void revoke(String jwtId, Instant expiresAt) throws IllegalArgumentException {
+        if (jwtId == null) {
+            throw new IllegalArgumentException("The JWT Id cannot be null.");
+        }
+        add(fingerprint(JWT_ID_KEY, jwtId), expiresAt == null ? NEVER : expirationOf(expiresAt.getEpochSecond()));
+    }
+
+    @Override
+    public boolean isRevoked(DecodedJWT jwt) {
+        long fingerprint = fingerprintOf(jwt);
+        long now = clock.millis() / 1000L;
+        long stamp = lock.tryOptimisticRead();
+        boolean revoked = table.contains(fingerprint, now);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                revoked = table.contains(fingerprint, now);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return revoked;
+    }
+
+    /**
+     * Getter for the number of revoked tokens, including the expired ones that haven't been removed yet.
+     *
+     * @return the number of entries in this denylist.
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Removes the entries of the tokens that have expired. Expired entries are otherwise removed when the
+     * denylist grows.
+     */
+    public void purgeExpired() {
+        long now = clock.millis() / 1000L;
+        long stamp = lock.writeLock();
+        try {
+            rebuild(now, 0);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Writes the entries of the tokens that haven't expired to the given stream, to be loaded later with
+     * {@link #loadSnapshot(InputStream)}. The stream is not closed.
+     *
+     * @param out the stream to write the snapshot to.
+     * @throws IOException if the snapshot couldn't be written.
+     */
+    public void writeSnapshot(OutputStream out) throws IOException {
+        long now = clock.millis() / 1000L;
+        Table copy;
+        long stamp = lock.readLock();
+        try {
+            copy = table.copy();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        int count = 0;
+        for (int i = 0; i < copy.fingerprints.length; i++) {
+            if (copy.isLive(i, now)) {
+                count++;
+            }
+        }
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(SNAPSHOT_MAGIC);
+        data.writeInt(SNAPSHOT_VERSION);
+        data.writeInt(count);
+        for (int i = 0; i < copy.fingerprints.length; i++) {
+            if (copy.isLive(i, now)) {
+                data.writeLong(copy.fingerprints[i]);
+                data.writeInt(copy.expirations[i]);
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Adds the entries of a snapshot written by {@link #writeSnapshot(OutputStream)} to this denylist, skipping
+     * the ones that have expired since. The stream is not closed.
+     *
+     * @param in the stream to read the snapshot from.
+     * @throws IOException if the snapshot couldn't be read or is not a denylist snapshot.
+     */
+    public void loadSnapshot(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != SNAPSHOT_MAGIC || data.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("The stream doesn't contain a token denylist snapshot.");
+        }
+        int count = data.readInt();
+        if (count < 0 || count > MAX_ENTRIES) {
+            throw new IOException("The token denylist snapshot is corrupted.");
+        }
+        long[] fingerprints = new long[Math.min(count, MIN_CAPACITY)];
+        int[] expirations = new int[fingerprints.length];
+        for (int i = 0; i < count; i++) {
+            if (i == fingerprints.length) {
+                fingerprints = Arrays.copyOf(fingerprints, Math.min(count, i * 2));
+                expirations = Arrays.copyOf(expirations, fingerprints.length);
+            }
+            fingerprints[i] = data.readLong();
+            expirations[i] = data.readInt();
+        }
+        long now = clock.millis() / 1000L;
+        long stamp = lock.writeLock();
+        try {
+            if (!table.hasRoomFor(size + count)) {
+                rebuild(now, count);
+            }
+            for (int i = 0; i < count; i++) {
+                if (fingerprints[i] != 0 && Integer.toUnsignedLong(expirations[i]) > now) {
+                    put(fingerprints[i], expirations[i], now);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void add(long fingerprint, int expiration) {
+        long now = clock.millis() / 1000L;
+        if (Integer.toUnsignedLong(expiration) <= now) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            put(fingerprint, expiration, now);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void put(long fingerprint, int expiration, long now) {
+        if (!table.hasRoomFor(size + 1)) {
+            rebuild(now, 1);
+        }
+        if (table.put(fingerprint, expiration)) {
+            size++;
+        }
+    }
+
+    private void rebuild(long now, int extra) {
+        int live = 0;
+        for (int i = 0; i < table.fingerprints.length; i++) {
+            if (table.isLive(i, now)) {
+                live++;
+            }
+        }
+        Table rebuilt = new Table(capacityFor(live + extra));
+        for (int i = 0; i < table.fingerprints.length; i++) {
+            if (table.isLive(i, now)) {
+                rebuilt.put(table.fingerprints[i], table.expirations[i]);
+            }
+        }
+        table = rebuilt;
+        size = live;
+    }
+
+    private long fingerprintOf(DecodedJWT jwt) {
+        String jwtId = jwt.getId();
+        return jwtId != null ? fingerprint(JWT_ID_KEY, jwtId) : fingerprint(TOKEN_KEY, jwt.getToken());
+    }
+
+    private long fingerprint(byte type, String key) {
+        MessageDigest digest = digests.get();
+        digest.update(type);
+        byte[] hash = digest.digest(key.getBytes(StandardCharsets.UTF_8));
+        long fingerprint = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            fingerprint = (fingerprint << 8) | (hash[i] & 0xFF);
+        }
+        return fingerprint != 0 ? fingerprint : 1;
+    }
+
+    private static int expirationOf(long epochSecond) {
+        if (epochSecond <= 0) {
+            return 0;
+        }
+        return epochSecond >= 0xFFFFFFFFL ? NEVER : (int) epochSecond;
+    }
+
+    private static int capacityFor(int entries) {
+        if (entries > MAX_ENTRIES) {
+            throw new IllegalStateException("The token denylist can't hold " + entries + " entries.");
+        }
+        long needed = Math.max(MIN_CAPACITY, (long) entries * 2);
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Open addressing table of fingerprints, with a blocked Bloom filter of one 64-bit word per 8 slots. Slots are
+     * only emptied by building a new table. Lookups may run while the table is being written, in which case their
+     * result is discarded by the caller.
+     */
+    private static final class Table {
+        private final long[] fingerprints;
+        private final int[] expirations;
+        private final long[] filter;
+
+        Table(int capacity) {
+            this.fingerprints = new long[capacity];
+            this.expirations = new int[capacity];
+            this.filter = new long[capacity / 8];
+        }
+
+        private Table(long[] fingerprints, int[] expirations, long[] filter) {
+            this.fingerprints = fingerprints;
+            this.expirations = expirations;
+            this.filter = filter;
+        }
+
+        Table copy() {
+            return new Table(fingerprints.clone(), expirations.clone(), filter.clone());
+        }
+
+        boolean hasRoomFor(int entries) {
+            return (long) entries * 4 <= (long) fingerprints.length * 3;
+        }
+
+        boolean isLive(int slot, long now) {
+            return fingerprints[slot] != 0 && Integer.toUnsignedLong(expirations[slot]) > now;
+        }
+
+        boolean contains(long fingerprint, long now) {
+            long bits = filterBits(fingerprint);
+            if ((filter[filterWord(fingerprint)] & bits) != bits) {
+                return false;
+            }
+            int mask = fingerprints.length - 1;
+            int slot = (int) fingerprint & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                long current = fingerprints[slot];
+                if (current == 0) {
+                    return false;
+                }
+                if (current == fingerprint) {
+                    return Integer.toUnsignedLong(expirations[slot]) > now;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        /**
+         * Adds the fingerprint, or extends its expiration if it's already present.
+         *
+         * @return true if the fingerprint was added, false if it was already present.
+         */
+        boolean put(long fingerprint, int expiration) {
+            int mask = fingerprints.length - 1;
+            int slot = (int) fingerprint & mask;
+            while (fingerprints[slot] != 0) {
+                if (fingerprints[slot] == fingerprint) {
+                    if (Integer.compareUnsigned(expiration, expirations[slot]) > 0) {
+                        expirations[slot] = expiration;
+                    }
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            expirations[slot] = expiration;
+            fingerprints[slot] = fingerprint;
+            filter[filterWord(fingerprint)] |= filterBits(fingerprint);
+            return true;
+        }
+
+        private int filterWord(long fingerprint) {
+            return (int) (fingerprint >>> 32) & (filter.length - 1);
+        }
+
+        private static long filterBits(long fingerprint) {
+            return 1L << fingerprint | 1L << (fingerprint >>> 6) | 1L << (fingerprint >>> 12)
+                    | 1L << (fingerprint >>> 18);
+        }
+    }
+}
@@ -5,4 +5,6 @@ module com.auth0.jwt {
     exports com.auth0.jwt.algorithms;
     exports com.auth0.jwt.exceptions;
     exports com.auth0.jwt.interfaces;
+    exports com.auth0.jwt.keys;
+    exports com.auth0.jwt.revocation;
 }
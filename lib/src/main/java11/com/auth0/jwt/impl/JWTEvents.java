@@ -0,0 +1,217 @@
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.Optional;
+
+/**
+ * Records the decoding, signing and verification of tokens as Java Flight Recorder events.
+ * <p>
+ * This is the version of the class for Java 11 and later. The events are named {@code com.auth0.jwt.Decode},
+ * {@code com.auth0.jwt.KeyLookup}, {@code com.auth0.jwt.SignatureVerification}, {@code com.auth0.jwt.Signing}
+ * and {@code com.auth0.jwt.Verification}. They are disabled by default, and are enabled through the settings of a
+ * recording. When the library runs as a named module, the events are only recorded if the {@code jdk.jfr} module
+ * was resolved at startup.
+ * <p>
+ * Each begin method returns the event in progress, or null if the event is not enabled, in which case the caller
+ * skips gathering the event's fields. The event is then given to {@link #end}.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class JWTEvents {
+
+    private static final boolean AVAILABLE = readFlightRecorderModule();
+
+    private JWTEvents() {
+    }
+
+    /**
+     * Begins the event of decoding a token.
+     *
+     * @return the event in progress, or null if it's not enabled.
+     */
+    public static Object beginDecode() {
+        return AVAILABLE ? Recorder.beginDecode() : null;
+    }
+
+    /**
+     * Begins the event of obtaining a Public Key from a Key Provider.
+     *
+     * @return the event in progress, or null if it's not enabled.
+     */
+    public static Object beginKeyLookup() {
+        return AVAILABLE ? Recorder.beginKeyLookup() : null;
+    }
+
+    /**
+     * Begins the event of verifying a token's signature.
+     *
+     * @return the event in progress, or null if it's not enabled.
+     */
+    public static Object beginSignatureVerification() {
+        return AVAILABLE ? Recorder.beginSignatureVerification() : null;
+    }
+
+    /**
+     * Begins the event of signing a token.
+     *
+     * @return the event in progress, or null if it's not enabled.
+     */
+    public static Object beginSigning() {
+        return AVAILABLE ? Recorder.beginSigning() : null;
+    }
+
+    /**
+     * Begins the event of verifying a token with a verifier, including its decoding, signature and claims.
+     *
+     * @return the event in progress, or null if it's not enabled.
+     */
+    public static Object beginVerification() {
+        return AVAILABLE ? Recorder.beginVerification() : null;
+    }
+
+    /**
+     * Ends the given event and commits it with the given fields.
+     *
+     * @param event       the event returned by one of the begin methods, or null.
+     * @param algorithm   the name of the token's algorithm, or null if it's not known.
+     * @param keyId       the Key Id of the token, or null if it has none or it's not known.
+     * @param tokenLength the length of the token, or -1 if it's not known.
+     * @param failure     the exception the operation failed with, or null if it succeeded.
+     */
+    public static void end(Object event, String algorithm, String keyId, int tokenLength, Throwable failure) {
+        if (event != null) {
+            Recorder.end(event, algorithm, keyId, tokenLength, failure);
+        }
+    }
+
+    /**
+     * Returns the length of the given decoded token, without joining its parts.
+     *
+     * @param jwt the decoded token.
+     * @return the length of the token.
+     */
+    public static int tokenLength(DecodedJWT jwt) {
+        return jwt.getHeader().length() + jwt.getPayload().length() + jwt.getSignature().length() + 2;
+    }
+
+    /**
+     * The events are only available if the jdk.jfr module was resolved, which a custom runtime image may lack.
+     * A named module only reads the modules it requires, and the module descriptor of this library can't require
+     * jdk.jfr as it's compiled for Java 9, so the module reads it once it's known to be resolved.
+     */
+    private static boolean readFlightRecorderModule() {
+        Optional<Module> jfr = ModuleLayer.boot().findModule("jdk.jfr");
+        if (jfr.isEmpty()) {
+            return false;
+        }
+        Module module = JWTEvents.class.getModule();
+        if (module.isNamed()) {
+            module.addReads(jfr.get());
+        }
+        return true;
+    }
+
+    /**
+     * Holds the code that uses the event classes, which are loaded as soon as this class is verified. It's only used
+     * once the module of this library reads jdk.jfr.
+     */
+    private static final class Recorder {
+
+        static Object beginDecode() {
+            return begin(new DecodeEvent());
+        }
+
+        static Object beginKeyLookup() {
+            return begin(new KeyLookupEvent());
+        }
+
+        static Object beginSignatureVerification() {
+            return begin(new SignatureVerificationEvent());
+        }
+
+        static Object beginSigning() {
+            return begin(new SigningEvent());
+        }
+
+        static Object beginVerification() {
+            return begin(new VerificationEvent());
+        }
+
+        private static Object begin(JWTEvent event) {
+            if (!event.isEnabled()) {
+                return null;
+            }
+            event.begin();
+            return event;
+        }
+
+        static void end(Object event, String algorithm, String keyId, int tokenLength, Throwable failure) {
+            JWTEvent jwtEvent = (JWTEvent) event;
+            jwtEvent.end();
+            if (jwtEvent.shouldCommit()) {
+                jwtEvent.algorithm = algorithm;
+                jwtEvent.keyId = keyId;
+                jwtEvent.tokenLength = tokenLength;
+                jwtEvent.outcome = failure == null ? "success" : failure.getClass().getName();
+                jwtEvent.commit();
+            }
+        }
+    }
+
+    @Category({"Auth0", "JWT"})
+    @Enabled(false)
+    @StackTrace(false)
+    private abstract static class JWTEvent extends Event {
+        @Label("Algorithm")
+        String algorithm;
+
+        @Label("Key Id")
+        String keyId;
+
+        @Label("Token Length")
+        @Description("The length of the token, or -1 if it's not known")
+        int tokenLength;
+
+        @Label("Outcome")
+        @Description("Either 'success' or the class of the exception the operation failed with")
+        String outcome;
+    }
+
+    @Name("com.auth0.jwt.Decode")
+    @Label("JWT Decode")
+    @Description("Decoding of a token's Base64url parts and JSON")
+    private static final class DecodeEvent extends JWTEvent {
+    }
+
+    @Name("com.auth0.jwt.KeyLookup")
+    @Label("JWT Key Lookup")
+    @Description("Lookup of the Public Key to verify a token with, in the algorithm's Key Provider")
+    private static final class KeyLookupEvent extends JWTEvent {
+    }
+
+    @Name("com.auth0.jwt.SignatureVerification")
+    @Label("JWT Signature Verification")
+    @Description("Verification of a token's signature")
+    private static final class SignatureVerificationEvent extends JWTEvent {
+    }
+
+    @Name("com.auth0.jwt.Signing")
+    @Label("JWT Signing")
+    @Description("Signing of a token")
+    private static final class SigningEvent extends JWTEvent {
+    }
+
+    @Name("com.auth0.jwt.Verification")
+    @Label("JWT Verification")
+    @Description("Verification of a token by a JWTVerifier, including its decoding, signature and claims")
+    private static final class VerificationEvent extends JWTEvent {
+    }
+}
@@ -1,6 +1,7 @@
 package com.auth0.jwt;
 
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.interfaces.ECDSAKeyProvider;
 import com.auth0.jwt.interfaces.RSAKeyProvider;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -9,16 +10,29 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.security.interfaces.ECPrivateKey;
 import java.security.interfaces.RSAPrivateKey;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class JWTCreatorTest {
@@ -1057,4 +1071,303 @@ public class JWTCreatorTest {
         assertThat("Claim insertion order should be preserved",
                 payloadFields, is(equalTo(payloadInsertionOrder)));
     }
+
+    @Test
+    public void shouldSignTheSameTokensWithATemplate() {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        JWTCreator.Template template = JWTCreator.init()
+                .withKeyId("my-key-id")
+                .withIssuer("auth0")
+                .withAudience("api", "admin")
+                .template(algorithm);
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", "1234567890");
+        claims.put("exp", Instant.ofEpochSecond(1700000000));
+        claims.put("roles", Arrays.asList("admin", "user"));
+
+        String expected = JWTCreator.init()
+                .withKeyId("my-key-id")
+                .withIssuer("auth0")
+                .withAudience("api", "admin")
+                .withPayload(claims)
+                .sign(algorithm);
+        assertThat(template.sign(claims), is(expected));
+
+        expected = JWTCreator.init()
+                .withKeyId("my-key-id")
+                .withIssuer("auth0")
+                .withAudience("api", "admin")
+                .sign(algorithm);
+        assertThat(template.sign(), is(expected));
+        assertThat(template.sign(Collections.emptyMap()), is(expected));
+    }
+
+    @Test
+    public void shouldReplaceTemplateClaimsWithTheGivenOnes() {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        JWTCreator.Template template = JWTCreator.init()
+                .withIssuer("auth0")
+                .withSubject("template")
+                .template(algorithm);
+
+        String signed = template.sign(Collections.singletonMap("sub", "1234567890"));
+        String payloadJson = new String(Base64.getUrlDecoder().decode(signed.split("\\.")[1]),
+                StandardCharsets.UTF_8);
+        assertThat(payloadJson, is("{\"iss\":\"auth0\",\"sub\":\"1234567890\"}"));
+    }
+
+    @Test
+    public void shouldNotChangeTemplateWhenBuilderChanges() {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        JWTCreator.Builder builder = JWTCreator.init().withIssuer("auth0");
+        JWTCreator.Template template = builder.template(algorithm);
+        builder.withSubject("1234567890");
+
+        assertThat(template.sign(), is(JWTCreator.init().withIssuer("auth0").sign(algorithm)));
+    }
+
+    @Test
+    public void shouldUpdateTemplateKeyIdWhenTheProviderKeyIdChanges() throws Exception {
+        RSAPrivateKey privateKey = (RSAPrivateKey) PemUtils.readPrivateKeyFromFile(PRIVATE_KEY_FILE_RSA, "RSA");
+        RSAKeyProvider provider = mock(RSAKeyProvider.class);
+        when(provider.getPrivateKeyId()).thenReturn("my-key-id", "my-key-id", "rotated-key-id");
+        when(provider.getPrivateKey()).thenReturn(privateKey);
+        JWTCreator.Template template = JWTCreator.init().template(Algorithm.RSA256(provider));
+
+        String signed = template.sign();
+        String headerJson = new String(Base64.getUrlDecoder().decode(signed.split("\\.")[0]), StandardCharsets.UTF_8);
+        assertThat(headerJson, JsonMatcher.hasEntry("kid", "my-key-id"));
+
+        signed = template.sign();
+        headerJson = new String(Base64.getUrlDecoder().decode(signed.split("\\.")[0]), StandardCharsets.UTF_8);
+        assertThat(headerJson, JsonMatcher.hasEntry("kid", "rotated-key-id"));
+    }
+
+    @Test
+    public void shouldThrowWhenSigningTemplateWithInvalidClaims() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Claim values must only be of types Map, List, Boolean, Integer, Long, Double, "
+                + "String, Date, Instant, and Null");
+        JWTCreator.init()
+                .template(Algorithm.HMAC256("secret"))
+                .sign(Collections.singletonMap("pojo", new UserPojo("Michael", 255)));
+    }
+
+    @Test
+    public void shouldThrowWhenRequestingTemplateWithoutAlgorithm() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The Algorithm cannot be null");
+        JWTCreator.init()
+                .template(null);
+    }
+
+    @Test
+    public void shouldSignTokensOfAnyLength() {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        StringBuilder subject = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            subject.append(i % 10 == 0 ? '\u00e9' : 'a');
+            String signed = JWTCreator.init()
+                    .withSubject(subject.toString())
+                    .sign(algorithm);
+
+            String[] parts = signed.split("\\.");
+            String payloadJson = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+            assertThat(payloadJson, is("{\"sub\":\"" + subject + "\"}"));
+            byte[] signature = algorithm.sign(parts[0].getBytes(StandardCharsets.US_ASCII),
+                    parts[1].getBytes(StandardCharsets.US_ASCII));
+            assertThat(parts[2], is(Base64.getUrlEncoder().withoutPadding().encodeToString(signature)));
+        }
+    }
+
+    @Test
+    public void shouldSignIntoByteBuffer() {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String expected = JWTCreator.init()
+                .withIssuer("auth0")
+                .sign(algorithm);
+
+        ByteBuffer target = ByteBuffer.allocate(512);
+        target.put((byte) '[');
+        int length = JWTCreator.init()
+                .withIssuer("auth0")
+                .sign(algorithm, target);
+
+        assertThat(length, is(expected.length()));
+        assertThat(target.position(), is(expected.length() + 1));
+        assertThat(new String(target.array(), 1, length, StandardCharsets.US_ASCII), is(expected));
+    }
+
+    @Test
+    public void shouldSignTemplateIntoByteBuffer() {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        JWTCreator.Template template = JWTCreator.init()
+                .withIssuer("auth0")
+                .template(algorithm);
+
+        ByteBuffer target = ByteBuffer.allocateDirect(512);
+        int length = template.sign(target);
+        length += template.sign(Collections.singletonMap("sub", "1234567890"), target);
+        target.flip();
+        byte[] written = new byte[target.remaining()];
+        target.get(written);
+
+        String expected = template.sign() + template.sign(Collections.singletonMap("sub", "1234567890"));
+        assertThat(length, is(expected.length()));
+        assertThat(new String(written, StandardCharsets.US_ASCII), is(expected));
+    }
+
+    @Test
+    public void shouldNotWriteIntoByteBufferWithoutEnoughSpace() {
+        ByteBuffer target = ByteBuffer.allocate(16);
+        try {
+            JWTCreator.init()
+                    .withIssuer("auth0")
+                    .sign(Algorithm.HMAC256("secret"), target);
+            fail();
+        } catch (BufferOverflowException e) {
+            assertThat(target.position(), is(0));
+        }
+    }
+
+    @Test
+    public void shouldThrowWhenSigningIntoNullByteBuffer() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The ByteBuffer cannot be null.");
+        JWTCreator.init()
+                .sign(Algorithm.HMAC256("secret"), null);
+    }
+
+    @Test
+    public void shouldWriteClaimsOfEveryTypeInInsertionOrder() {
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("list", Arrays.asList(1, "two", null, Instant.ofEpochSecond(4)));
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("string", "h\u00e9llo \"world\"");
+        claims.put("long", Long.MAX_VALUE);
+        claims.put("int", -5);
+        claims.put("bool", true);
+        claims.put("double", 1.5);
+        claims.put("null", null);
+        claims.put("date", new Date(123456789));
+        claims.put("instant", Instant.ofEpochSecond(99));
+        claims.put("array", new String[]{"a", "b"});
+        claims.put("map", nested);
+
+        String signed = JWTCreator.init()
+                .withPayload(claims)
+                .sign(Algorithm.HMAC256("secret"));
+
+        String payloadJson = new String(Base64.getUrlDecoder().decode(signed.split("\\.")[1]),
+                StandardCharsets.UTF_8);
+        assertThat(payloadJson, is("{\"string\":\"h\u00e9llo \\\"world\\\"\",\"long\":9223372036854775807,"
+                + "\"int\":-5,\"bool\":true,\"double\":1.5,\"null\":null,\"date\":123456,\"instant\":99,"
+                + "\"array\":[\"a\",\"b\"],\"map\":{\"list\":[1,\"two\",null,4]}}"));
+    }
+
+    @Test
+    public void shouldSignAfterClaimsThatCouldNotBeConverted() {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        JWTCreator.Builder invalid = JWTCreator.init()
+                .withHeader(Collections.singletonMap("object", new Object()));
+        JWTCreationException e = assertThrows(JWTCreationException.class, () -> invalid.sign(algorithm));
+        assertThat(e.getMessage(), is("Some of the Claims couldn't be converted to a valid JSON format."));
+
+        String signed = JWTCreator.init()
+                .withIssuer("auth0")
+                .sign(algorithm);
+        assertThat(signed.split("\\.")[1], is("eyJpc3MiOiJhdXRoMCJ9"));
+        assertThat(JWT.require(algorithm).build().verify(signed).getIssuer(), is("auth0"));
+    }
+
+    @Test
+    public void shouldSignAllTheGivenClaimsWithTheTemplate() {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        JWTCreator.Template template = JWTCreator.init()
+                .withIssuer("auth0")
+                .template(algorithm);
+        List<Map<String, ?>> claims = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            claims.add(i == 100 ? null : Collections.singletonMap("sub", "user-" + i));
+        }
+
+        List<String> tokens = template.signAll(claims);
+        assertThat(tokens, hasSize(200));
+        for (int i = 0; i < 200; i++) {
+            assertThat(tokens.get(i), is(template.sign(claims.get(i))));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertThat(template.signAll(claims, executor), is(tokens));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldStreamAllTheSignedTokens() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        JWTCreator.Template template = JWTCreator.init()
+                .withIssuer("auth0")
+                .template(algorithm);
+        List<Map<String, ?>> claims = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            claims.add(Collections.singletonMap("sub", "user-" + i));
+        }
+        String expected = String.join("\n", template.signAll(claims)) + "\n";
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertThat(template.signAll(claims, pool, out), is(5000L));
+            assertThat(out.toString("US-ASCII"), is(expected));
+
+            out.reset();
+            assertThat(template.signAll(claims, pool, Channels.newChannel(out)), is(5000L));
+            assertThat(out.toString("US-ASCII"), is(expected));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldSignAllTheTokensWithTheSameKey() throws Exception {
+        RSAPrivateKey privateKey = (RSAPrivateKey) PemUtils.readPrivateKeyFromFile(PRIVATE_KEY_FILE_RSA, "RSA");
+        RSAKeyProvider provider = mock(RSAKeyProvider.class);
+        when(provider.getPrivateKeyId()).thenReturn("my-key-id", "my-key-id", "rotated-key-id");
+        when(provider.getPrivateKey()).thenReturn(privateKey);
+        JWTCreator.Template template = JWTCreator.init().template(Algorithm.RSA256(provider));
+
+        List<String> tokens = template.signAll(Arrays.asList(null, null, null));
+        for (String token : tokens) {
+            assertThat(JWT.decode(token).getKeyId(), is("my-key-id"));
+        }
+        verify(provider, times(1)).getPrivateKey();
+    }
+
+    @Test
+    public void shouldThrowWhenSigningAllWithInvalidClaims() {
+        JWTCreator.Template template = JWTCreator.init().template(Algorithm.HMAC256("secret"));
+        List<Map<String, ?>> claims = Arrays.asList(Collections.singletonMap("sub", "1"),
+                Collections.singletonMap("pojo", new UserPojo("Michael", 255)));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> template.signAll(claims, executor));
+            assertThat(e.getMessage(), is("Claim values must only be of types Map, List, Boolean, Integer, Long, "
+                    + "Double, String, Date, Instant, and Null"));
+
+            e = assertThrows(IllegalArgumentException.class, () -> template.signAll(null));
+            assertThat(e.getMessage(), is("The claims cannot be null."));
+            e = assertThrows(IllegalArgumentException.class,
+                    () -> template.signAll(Collections.emptyList(), (Executor) null));
+            assertThat(e.getMessage(), is("The Executor cannot be null."));
+            e = assertThrows(IllegalArgumentException.class,
+                    () -> template.signAll(Collections.emptyList(), executor, (OutputStream) null));
+            assertThat(e.getMessage(), is("The OutputStream cannot be null."));
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,129 @@
+package com.auth0.jwt;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.AlgorithmMismatchException;
+import com.auth0.jwt.exceptions.IncorrectClaimException;
+import com.auth0.jwt.exceptions.MissingClaimException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JWTVerifierRegistryTest {
+
+    private final Algorithm tenantA = Algorithm.HMAC256("secret-of-tenant-a");
+    private final Algorithm tenantB = Algorithm.HMAC256("secret-of-tenant-b");
+
+    @Test
+    public void shouldRouteTokensByIssuer() {
+        JWTVerifierRegistry registry = new JWTVerifierRegistry()
+                .register("tenant-a", JWT.require(tenantA).withIssuer("tenant-a").build())
+                .register("tenant-b", JWT.require(tenantB).withIssuer("tenant-b").build());
+
+        DecodedJWT jwt = registry.verify(JWT.create().withIssuer("tenant-a").withSubject("1").sign(tenantA));
+        assertThat(jwt.getSubject(), is("1"));
+        jwt = registry.verify(JWT.create().withIssuer("tenant-b").withSubject("2").sign(tenantB));
+        assertThat(jwt.getSubject(), is("2"));
+
+        String forged = JWT.create().withIssuer("tenant-b").sign(tenantA);
+        assertThrows(SignatureVerificationException.class, () -> registry.verify(forged));
+    }
+
+    @Test
+    public void shouldRouteTokensByKeyIdBeforeAlgorithm() {
+        Algorithm rotated = Algorithm.HMAC256("rotated-secret-of-tenant-a");
+        JWTVerifierRegistry registry = new JWTVerifierRegistry()
+                .register("tenant-a", JWT.require(tenantA).build())
+                .register("tenant-a", "rotated", JWT.require(rotated).build());
+
+        registry.verify(JWT.create().withIssuer("tenant-a").withKeyId("rotated").sign(rotated));
+        registry.verify(JWT.create().withIssuer("tenant-a").withKeyId("unknown").sign(tenantA));
+        registry.verify(JWT.create().withIssuer("tenant-a").sign(tenantA));
+
+        assertThat(registry.unregister("tenant-a", "rotated"), is(true));
+        assertThat(registry.unregister("tenant-a", "rotated"), is(false));
+        String token = JWT.create().withIssuer("tenant-a").withKeyId("rotated").sign(rotated);
+        assertThrows(SignatureVerificationException.class, () -> registry.verify(token));
+    }
+
+    @Test
+    public void shouldRouteTokensByAlgorithm() {
+        Algorithm hs384 = Algorithm.HMAC384("secret-of-tenant-a");
+        JWTVerifierRegistry registry = new JWTVerifierRegistry()
+                .register("tenant-a", JWT.require(tenantA).build())
+                .register("tenant-a", JWT.require(hs384).build());
+
+        registry.verify(JWT.create().withIssuer("tenant-a").sign(tenantA));
+        registry.verify(JWT.create().withIssuer("tenant-a").sign(hs384));
+
+        String token = JWT.create().withIssuer("tenant-a").sign(Algorithm.HMAC512("secret-of-tenant-a"));
+        AlgorithmMismatchException e = assertThrows(AlgorithmMismatchException.class, () -> registry.verify(token));
+        assertThat(e.getMessage(), is("The provided Algorithm doesn't match the one defined in the JWT's Header."));
+    }
+
+    @Test
+    public void shouldRouteTokensOfAnyAlgorithmToCustomVerifiers() {
+        JWTVerifier verifier = mock(JWTVerifier.class);
+        when(verifier.verify(any(DecodedJWT.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        JWTVerifierRegistry registry = new JWTVerifierRegistry().register("tenant-a", verifier);
+
+        DecodedJWT jwt = registry.verify(JWT.create().withIssuer("tenant-a").sign(tenantB));
+        assertThat(jwt.getIssuer(), is("tenant-a"));
+        verify(verifier).verify(jwt);
+    }
+
+    @Test
+    public void shouldThrowOnUnknownOrMissingIssuer() {
+        JWTVerifier verifier = mock(JWTVerifier.class);
+        JWTVerifierRegistry registry = new JWTVerifierRegistry().register("tenant-a", verifier);
+
+        String unknown = JWT.create().withIssuer("tenant-b").sign(tenantB);
+        IncorrectClaimException e = assertThrows(IncorrectClaimException.class, () -> registry.verify(unknown));
+        assertThat(e.getMessage(), is("The Claim 'iss' value doesn't match the required issuer."));
+        assertThat(e.getClaimName(), is(RegisteredClaims.ISSUER));
+        assertThat(e.getClaimValue().asString(), is("tenant-b"));
+
+        String missing = JWT.create().withSubject("1").sign(tenantA);
+        MissingClaimException missingClaim = assertThrows(MissingClaimException.class,
+                () -> registry.verify(missing));
+        assertThat(missingClaim.getClaimName(), is(RegisteredClaims.ISSUER));
+        verify(verifier, never()).verify(any(DecodedJWT.class));
+    }
+
+    @Test
+    public void shouldStopRoutingToUnregisteredTenants() {
+        JWTVerifierRegistry registry = new JWTVerifierRegistry()
+                .register("tenant-a", JWT.require(tenantA).build());
+        String token = JWT.create().withIssuer("tenant-a").sign(tenantA);
+        registry.verify(token);
+
+        assertThat(registry.unregister("tenant-a"), is(true));
+        assertThat(registry.unregister("tenant-a"), is(false));
+        assertThrows(IncorrectClaimException.class, () -> registry.verify(token));
+    }
+
+    @Test
+    public void shouldThrowOnInvalidRegistration() {
+        JWTVerifierRegistry registry = new JWTVerifierRegistry();
+        JWTVerifier verifier = mock(JWTVerifier.class);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> registry.register(null, verifier));
+        assertThat(e.getMessage(), is("The Issuer cannot be null."));
+
+        e = assertThrows(IllegalArgumentException.class, () -> registry.register("tenant-a", null));
+        assertThat(e.getMessage(), is("The JWTVerifier cannot be null."));
+
+        e = assertThrows(IllegalArgumentException.class, () -> registry.register("tenant-a", null, verifier));
+        assertThat(e.getMessage(), is("The Key Id cannot be null."));
+    }
+}
@@ -5,6 +5,9 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import static org.hamcrest.Matchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -89,6 +92,38 @@ public class TokenUtilsTest {
     public void shouldThrowOnSplitTokenWithNullValue() {
         exception.expect(JWTDecodeException.class);
         exception.expectMessage("The token is null.");
-        TokenUtils.splitToken(null);
+        TokenUtils.splitToken((String) null);
+    }
+
+    @Test
+    public void shouldSplitTokenBuffer() {
+        String token = "xxeyJhbGciOiJub25lIiwidHlwIjoiSldUIn0.eyJpc3MiOiJhdXRoMCJ9.W1mx_Y0hbAMbPmfW9whT605AAcxB7REFuJiDAHk2Sdcyy";
+        ByteBuffer buffer = ByteBuffer.wrap(token.getBytes(StandardCharsets.US_ASCII), 2, token.length() - 4);
+        int[] delimiters = TokenUtils.splitToken(buffer);
+
+        assertThat(delimiters[0], is(token.indexOf('.')));
+        assertThat(delimiters[1], is(token.lastIndexOf('.')));
+        assertThat(buffer.position(), is(2));
+    }
+
+    @Test
+    public void shouldThrowOnSplitTokenBufferWithMoreThan3Parts() {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token was expected to have 3 parts, but got > 3.");
+        TokenUtils.splitToken(ByteBuffer.wrap("this.has.four.parts".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    public void shouldThrowOnSplitTokenBufferWith2Parts() {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token was expected to have 3 parts, but got 2.");
+        TokenUtils.splitToken(ByteBuffer.wrap("two.parts".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    public void shouldThrowOnSplitTokenBufferWithNullValue() {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token is null.");
+        TokenUtils.splitToken((ByteBuffer) null);
     }
-}
\ No newline at end of file
+}
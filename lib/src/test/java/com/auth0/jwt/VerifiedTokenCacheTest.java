@@ -0,0 +1,154 @@
+package com.auth0.jwt;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class VerifiedTokenCacheTest {
+
+    private static final long NOW = 1477592000L;
+    private static final AtomicInteger ids = new AtomicInteger();
+
+    @Test
+    public void shouldReturnNullForUnknownToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, 60_000);
+        assertThat(cache.get("unknown", NOW), is(nullValue()));
+        assertThat(cache.get(null, NOW), is(nullValue()));
+    }
+
+    @Test
+    public void shouldExpireEntriesAfterTtl() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, 60_000);
+        DecodedJWT jwt = decoded(null);
+        cache.put(jwt.getToken(), jwt, NOW);
+
+        assertThat(cache.get(jwt.getToken(), NOW + 59_999), is(sameInstance(jwt)));
+        assertThat(cache.get(jwt.getToken(), NOW + 60_000), is(nullValue()));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void shouldNotKeepEntriesAfterTokenExpiresAt() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, 60_000);
+        DecodedJWT jwt = decoded(Instant.ofEpochMilli(NOW + 10_000));
+        cache.put(jwt.getToken(), jwt, NOW);
+
+        assertThat(cache.get(jwt.getToken(), NOW + 9_999), is(sameInstance(jwt)));
+        assertThat(cache.get(jwt.getToken(), NOW + 10_000), is(nullValue()));
+    }
+
+    @Test
+    public void shouldNotStoreAlreadyExpiredTokens() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, 60_000);
+        DecodedJWT jwt = decoded(Instant.ofEpochMilli(NOW - 1_000));
+        cache.put(jwt.getToken(), jwt, NOW);
+
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void shouldEvictTheOldestEntryWhenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, 60_000);
+        DecodedJWT first = decoded(null);
+        DecodedJWT second = decoded(null);
+        DecodedJWT third = decoded(Instant.ofEpochMilli(NOW + 30_000));
+        cache.put(first.getToken(), first, NOW);
+        cache.put(second.getToken(), second, NOW);
+        cache.put(third.getToken(), third, NOW);
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get(first.getToken(), NOW), is(nullValue()));
+        assertThat(cache.get(second.getToken(), NOW), is(sameInstance(second)));
+        assertThat(cache.get(third.getToken(), NOW), is(sameInstance(third)));
+    }
+
+    @Test
+    public void shouldNotEvictAReStoredEntryForItsExpiredCopy() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, 10_000);
+        DecodedJWT reused = decoded(null);
+        cache.put(reused.getToken(), reused, NOW);
+        assertThat(cache.get(reused.getToken(), NOW + 10_000), is(nullValue()));
+
+        cache.put(reused.getToken(), reused, NOW + 10_000);
+        DecodedJWT second = decoded(null);
+        cache.put(second.getToken(), second, NOW + 10_000);
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get(reused.getToken(), NOW + 10_000), is(sameInstance(reused)));
+        assertThat(cache.get(second.getToken(), NOW + 10_000), is(sameInstance(second)));
+
+        DecodedJWT third = decoded(null);
+        cache.put(third.getToken(), third, NOW + 10_000);
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get(reused.getToken(), NOW + 10_000), is(nullValue()));
+        assertThat(cache.get(second.getToken(), NOW + 10_000), is(sameInstance(second)));
+        assertThat(cache.get(third.getToken(), NOW + 10_000), is(sameInstance(third)));
+    }
+
+    @Test
+    public void shouldNotSweepAFullCacheOnEveryPut() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, 60_000);
+        for (int i = 0; i < 10; i++) {
+            DecodedJWT jwt = decoded(null);
+            cache.put(jwt.getToken(), jwt, NOW);
+        }
+        for (int i = 0; i < 30; i++) {
+            DecodedJWT jwt = decoded(null);
+            cache.put(jwt.getToken(), jwt, NOW);
+        }
+
+        assertThat(cache.size(), is(10));
+        assertThat(cache.sweeps(), is(3));
+    }
+
+    @Test
+    public void shouldNotGrowPastItsSizeWithConcurrentPuts() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(16, 60_000);
+        DecodedJWT[] tokens = new DecodedJWT[400];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = decoded(null);
+        }
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = offset; i < tokens.length; i += threads.length) {
+                    cache.put(tokens[i].getToken(), tokens[i], NOW);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(cache.size(), is(16));
+    }
+
+    @Test
+    public void shouldPurgeExpiredEntriesWhenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(1, 60_000);
+        DecodedJWT first = decoded(null);
+        DecodedJWT second = decoded(Instant.ofEpochMilli(NOW + 120_000));
+        cache.put(first.getToken(), first, NOW);
+        cache.put(second.getToken(), second, NOW + 60_000);
+
+        assertThat(cache.size(), is(1));
+        assertThat(cache.get(second.getToken(), NOW + 60_000), is(sameInstance(second)));
+    }
+
+    private static DecodedJWT decoded(Instant expiresAt) {
+        String token = JWT.create()
+                .withExpiresAt(expiresAt)
+                .withJWTId(String.valueOf(ids.incrementAndGet()))
+                .sign(Algorithm.HMAC256("secret"));
+        return JWT.decode(token);
+    }
+}
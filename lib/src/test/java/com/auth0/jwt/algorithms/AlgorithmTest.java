@@ -1,6 +1,7 @@
 package com.auth0.jwt.algorithms;
 
 import com.auth0.jwt.interfaces.ECDSAKeyProvider;
+import com.auth0.jwt.interfaces.EdDSAKeyProvider;
 import com.auth0.jwt.interfaces.RSAKeyProvider;
 import org.junit.Rule;
 import org.junit.Test;
@@ -279,6 +280,21 @@ public class AlgorithmTest {
         Algorithm.ECDSA512(provider);
     }
 
+    @Test
+    public void shouldThrowEdDSAInstanceWithNullKeys() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Both provided Keys cannot be null.");
+        Algorithm.EdDSA(null, null);
+    }
+
+    @Test
+    public void shouldThrowEdDSAInstanceWithNullKeyProvider() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The Key Provider cannot be null.");
+        EdDSAKeyProvider provider = null;
+        Algorithm.EdDSA(provider);
+    }
+
     @Test
     public void shouldCreateHMAC256AlgorithmWithBytes() {
         Algorithm algorithm = Algorithm.HMAC256("secret".getBytes(StandardCharsets.UTF_8));
@@ -588,6 +604,17 @@ public class AlgorithmTest {
         assertThat(algorithm.getName(), is("ES256"));
     }
 
+    @Test
+    public void shouldCreateEdDSAAlgorithmWithProvider() {
+        EdDSAKeyProvider provider = mock(EdDSAKeyProvider.class);
+        Algorithm algorithm = Algorithm.EdDSA(provider);
+
+        assertThat(algorithm, is(notNullValue()));
+        assertThat(algorithm, is(instanceOf(EdDSAAlgorithm.class)));
+        assertThat(algorithm.getDescription(), is("EdDSA"));
+        assertThat(algorithm.getName(), is("EdDSA"));
+    }
+
     @Test
     public void shouldCreateECDSA384AlgorithmWithPublicKey() {
         ECKey key = mock(ECKey.class, withSettings().extraInterfaces(ECPublicKey.class));
@@ -7,6 +7,7 @@ import com.auth0.jwt.interfaces.ECDSAKeyProvider;
 import com.auth0.jwt.interfaces.JWTVerifier;
 import org.hamcrest.Matchers;
 import org.hamcrest.collection.IsIn;
+import org.junit.Assume;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -33,7 +34,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.internal.matchers.ThrowableMessageMatcher.hasMessage;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ECDSAAlgorithmTest {
@@ -1349,4 +1354,96 @@ public class ECDSAAlgorithmTest {
         ECDSAAlgorithm algorithm256 = (ECDSAAlgorithm) Algorithm.ECDSA256(publicKey, privateKey);
         algorithm256.validateSignatureStructure(invalidSignature, publicKey);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldVerifyTheJOSESignatureWithTheP1363Format() throws Exception {
+        Assume.assumeTrue(isAlgorithmAvailable("SHA256withECDSAinP1363Format"));
+        ECPublicKey publicKey = (ECPublicKey) readPublicKeyFromFile(PUBLIC_KEY_FILE_256, "EC");
+        ECPrivateKey privateKey = (ECPrivateKey) readPrivateKeyFromFile(PRIVATE_KEY_FILE_256, "EC");
+        String jwt = JWT.create().withIssuer("auth0").sign(Algorithm.ECDSA256(publicKey, privateKey));
+        byte[] joseSignature = Base64.getUrlDecoder().decode(jwt.substring(jwt.lastIndexOf('.') + 1));
+
+        CryptoHelper crypto = mock(CryptoHelper.class);
+        when(crypto.verifySignatureFor(eq("SHA256withECDSAinP1363Format"), eq(publicKey), any(String.class),
+                any(String.class), eq(joseSignature))).thenReturn(true);
+        ECDSAKeyProvider provider = ECDSAAlgorithm.providerForKeys(publicKey, privateKey);
+        Algorithm algorithm = new ECDSAAlgorithm(crypto, "ES256", "SHA256withECDSA", 32, provider);
+        algorithm.verify(JWT.decode(jwt));
+    }
+
+    @Test
+    public void shouldFallBackToDERWhenTheP1363FormatRejectsTheKey() throws Exception {
+        Assume.assumeTrue(isAlgorithmAvailable("SHA256withECDSAinP1363Format"));
+        ECPublicKey publicKey = (ECPublicKey) readPublicKeyFromFile(PUBLIC_KEY_FILE_256, "EC");
+        ECPrivateKey privateKey = (ECPrivateKey) readPrivateKeyFromFile(PRIVATE_KEY_FILE_256, "EC");
+        String jwt = JWT.create().withIssuer("auth0").sign(Algorithm.ECDSA256(publicKey, privateKey));
+
+        CryptoHelper crypto = mock(CryptoHelper.class);
+        when(crypto.verifySignatureFor(eq("SHA256withECDSAinP1363Format"), any(PublicKey.class), any(String.class),
+                any(String.class), any(byte[].class))).thenThrow(InvalidKeyException.class);
+        when(crypto.verifySignatureFor(eq("SHA256withECDSA"), any(PublicKey.class), any(String.class),
+                any(String.class), any(byte[].class))).thenReturn(true);
+        ECDSAKeyProvider provider = ECDSAAlgorithm.providerForKeys(publicKey, privateKey);
+        Algorithm algorithm = new ECDSAAlgorithm(crypto, "ES256", "SHA256withECDSA", 32, provider);
+        algorithm.verify(JWT.decode(jwt));
+        algorithm.verify(JWT.decode(jwt));
+
+        verify(crypto, times(1)).verifySignatureFor(eq("SHA256withECDSAinP1363Format"), any(PublicKey.class),
+                any(String.class), any(String.class), any(byte[].class));
+        verify(crypto, times(2)).verifySignatureFor(eq("SHA256withECDSA"), any(PublicKey.class),
+                any(String.class), any(String.class), any(byte[].class));
+    }
+
+    @Test
+    public void shouldKeepTheFallBackToDERForEachOfInterleavedKeys() throws Exception {
+        Assume.assumeTrue(isAlgorithmAvailable("SHA256withECDSAinP1363Format"));
+        ECPublicKey publicKey = (ECPublicKey) readPublicKeyFromFile(PUBLIC_KEY_FILE_256, "EC");
+        ECPublicKey otherPublicKey = (ECPublicKey) readPublicKeyFromFile(PUBLIC_KEY_FILE_256, "EC");
+        ECPrivateKey privateKey = (ECPrivateKey) readPrivateKeyFromFile(PRIVATE_KEY_FILE_256, "EC");
+        Algorithm signing = Algorithm.ECDSA256(publicKey, privateKey);
+        String jwt = JWT.create().withKeyId("key").sign(signing);
+        String otherJwt = JWT.create().withKeyId("other-key").sign(signing);
+
+        CryptoHelper crypto = mock(CryptoHelper.class);
+        when(crypto.verifySignatureFor(eq("SHA256withECDSAinP1363Format"), any(PublicKey.class), any(String.class),
+                any(String.class), any(byte[].class))).thenThrow(InvalidKeyException.class);
+        when(crypto.verifySignatureFor(eq("SHA256withECDSA"), any(PublicKey.class), any(String.class),
+                any(String.class), any(byte[].class))).thenReturn(true);
+        ECDSAKeyProvider provider = mock(ECDSAKeyProvider.class);
+        when(provider.getPublicKeyById("key")).thenReturn(publicKey);
+        when(provider.getPublicKeyById("other-key")).thenReturn(otherPublicKey);
+        Algorithm algorithm = new ECDSAAlgorithm(crypto, "ES256", "SHA256withECDSA", 32, provider);
+        for (int i = 0; i < 3; i++) {
+            algorithm.verify(JWT.decode(jwt));
+            algorithm.verify(JWT.decode(otherJwt));
+        }
+
+        verify(crypto, times(1)).verifySignatureFor(eq("SHA256withECDSAinP1363Format"), same(publicKey),
+                any(String.class), any(String.class), any(byte[].class));
+        verify(crypto, times(1)).verifySignatureFor(eq("SHA256withECDSAinP1363Format"), same(otherPublicKey),
+                any(String.class), any(String.class), any(byte[].class));
+        verify(crypto, times(6)).verifySignatureFor(eq("SHA256withECDSA"), any(PublicKey.class),
+                any(String.class), any(String.class), any(byte[].class));
+    }
+
+    @Test
+    public void shouldAcceptSignatureValuesLessThanOrder() throws Exception {
+        ECPublicKey publicKey = (ECPublicKey) readPublicKeyFromFile(PUBLIC_KEY_FILE_256, "EC");
+        ECDSAAlgorithm algorithm256 = (ECDSAAlgorithm) Algorithm.ECDSA256(publicKey, null);
+        byte[] order = publicKey.getParams().getOrder().subtract(BigInteger.ONE).toByteArray();
+        byte[] signature = new byte[64];
+        System.arraycopy(order, order.length - 32, signature, 0, 32);
+        System.arraycopy(order, order.length - 32, signature, 32, 32);
+
+        algorithm256.validateSignatureStructure(signature, publicKey);
+    }
+
+    private static boolean isAlgorithmAvailable(String algorithm) {
+        try {
+            Signature.getInstance(algorithm);
+            return true;
+        } catch (NoSuchAlgorithmException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.interfaces.Header;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+public class HeaderCacheTest {
+
+    @Test
+    public void shouldReturnCachedHeaders() {
+        HeaderCache cache = new HeaderCache(2);
+        Header header = mock(Header.class);
+        cache.put("eyJhbGciOiJIUzI1NiJ9", header);
+
+        assertThat(cache.get("eyJhbGciOiJIUzI1NiJ9"), is(sameInstance(header)));
+        assertThat(cache.get("eyJhbGciOiJIUzM4NCJ9"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldEvictTheOldestEntryWhenFull() {
+        HeaderCache cache = new HeaderCache(2);
+        Header first = mock(Header.class);
+        Header second = mock(Header.class);
+        cache.put("segment-1", first);
+        cache.put("segment-2", second);
+        assertThat(cache.size(), is(2));
+
+        Header header = mock(Header.class);
+        cache.put("segment-3", header);
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get("segment-1"), is(nullValue()));
+        assertThat(cache.get("segment-2"), is(sameInstance(second)));
+        assertThat(cache.get("segment-3"), is(sameInstance(header)));
+    }
+
+    @Test
+    public void shouldKeepAHotEntryDuringABurstOfUniqueHeaders() {
+        HeaderCache cache = new HeaderCache(4);
+        Header hot = mock(Header.class);
+        cache.put("hot", hot);
+        for (int i = 0; i < 100; i++) {
+            assertThat(cache.get("hot"), is(sameInstance(hot)));
+            cache.put("unique-" + i, mock(Header.class));
+        }
+
+        assertThat(cache.size(), is(4));
+        assertThat(cache.get("hot"), is(sameInstance(hot)));
+        assertThat(cache.get("unique-99"), is(notNullValue()));
+        assertThat(cache.get("unique-0"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldNotCacheLongSegments() {
+        HeaderCache cache = new HeaderCache(2);
+        StringBuilder segment = new StringBuilder();
+        for (int i = 0; i <= HeaderCache.MAX_SEGMENT_LENGTH; i++) {
+            segment.append('A');
+        }
+        cache.put(segment.toString(), mock(Header.class));
+
+        assertThat(cache.size(), is(0));
+        assertThat(cache.get(segment.toString()), is(nullValue()));
+    }
+}
@@ -0,0 +1,34 @@
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class JWTEventsTest {
+
+    @Test
+    public void shouldGetTheTokenLengthOfDecodedJWT() {
+        String token = JWT.create().withIssuer("auth0").withKeyId("my-key-id").sign(Algorithm.HMAC256("secret"));
+        assertThat(JWTEvents.tokenLength(JWT.decode(token)), is(token.length()));
+    }
+
+    @Test
+    public void shouldNotBeginDisabledEvents() {
+        assertThat(JWTEvents.beginDecode(), is(nullValue()));
+        assertThat(JWTEvents.beginKeyLookup(), is(nullValue()));
+        assertThat(JWTEvents.beginSignatureVerification(), is(nullValue()));
+        assertThat(JWTEvents.beginSigning(), is(nullValue()));
+        assertThat(JWTEvents.beginVerification(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldIgnoreEndOfEventsNotBegun() {
+        JWTEvents.end(null, "HS256", "my-key-id", 100, null);
+        JWTEvents.end(null, null, null, -1, new SignatureVerificationException(Algorithm.none()));
+    }
+}
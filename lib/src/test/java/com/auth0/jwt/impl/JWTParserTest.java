@@ -12,6 +12,9 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 import static com.auth0.jwt.impl.JWTParser.getDefaultObjectMapper;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -113,4 +116,69 @@ public class JWTParserTest {
         exception.expectMessage("The string '}{' doesn't have a valid JSON format.");
         parser.parsePayload("}{");
     }
+
+    @Test
+    public void shouldParsePayloadFromBytes() {
+        byte[] json = "xx{\"iss\":\"auth0\"}xx".getBytes(StandardCharsets.UTF_8);
+        Payload payload = parser.parsePayload(json, 2, json.length - 4);
+
+        assertThat(payload, is(notNullValue()));
+        assertThat(payload.getIssuer(), is("auth0"));
+    }
+
+    @Test
+    public void shouldParseHeaderFromBytes() {
+        byte[] json = "{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8);
+        Header header = parser.parseHeader(json, 0, json.length);
+
+        assertThat(header, is(notNullValue()));
+        assertThat(header.getAlgorithm(), is("HS256"));
+    }
+
+    @Test
+    public void shouldThrowWhenConvertingPayloadFromInvalidJsonBytes() {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The string '}{' doesn't have a valid JSON format.");
+        byte[] json = "}{".getBytes(StandardCharsets.UTF_8);
+        parser.parsePayload(json, 0, json.length);
+    }
+
+    @Test
+    public void shouldThrowWhenConvertingHeaderIfNullJsonBytes() {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The string 'null' doesn't have a valid JSON format.");
+        parser.parseHeader(null, 0, 0);
+    }
+
+    @Test
+    public void shouldParseHeaderSegmentOnceForTheSameSegment() {
+        String segment = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"alg\":\"HS256\",\"kid\":\"my-key-id\"}".getBytes(StandardCharsets.UTF_8));
+        Header header = parser.parseHeaderSegment(segment);
+
+        assertThat(header.getAlgorithm(), is("HS256"));
+        assertThat(header.getKeyId(), is("my-key-id"));
+        assertThat(new JWTParser().parseHeaderSegment(segment), is(sameInstance(header)));
+    }
+
+    @Test
+    public void shouldThrowWhenParsingHeaderSegmentIfNotBase64() {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The input is not a valid base 64 encoded string.");
+        parser.parseHeaderSegment("}{");
+    }
+
+    @Test
+    public void shouldThrowWhenParsingHeaderSegmentIfInvalidJson() {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The string '}{' doesn't have a valid JSON format.");
+        parser.parseHeaderSegment("fXs");
+    }
+
+    @Test
+    public void shouldThrowWhenParsingHeaderSegmentIfNull() {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The string 'null' doesn't have a valid JSON format.");
+        parser.parseHeaderSegment(null);
+    }
 }
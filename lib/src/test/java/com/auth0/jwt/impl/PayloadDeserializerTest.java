@@ -19,6 +19,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.*;
 
@@ -115,6 +116,83 @@ public class PayloadDeserializerTest {
         assertThat(payload.getClaim("jti").asString(), is("idid"));
     }
 
+    @Test
+    public void shouldReadCustomClaimsFromTheSourceBytesWhenLookedUp() {
+        String payloadJSON = "{\"iss\":\"auth0\",\"exp\":11111111,\"name\":\"J\\u00f6rg \\\"JD\\\" Doe\","
+                + "\"roles\":[\"admin\",{\"scope\":null}],\"age\":42,\"active\":true,\"nothing\":null}";
+        byte[] bytes = ("..." + payloadJSON + "...").getBytes(StandardCharsets.UTF_8);
+
+        PayloadImpl payload = (PayloadImpl) new JWTParser().parsePayload(bytes, 3, bytes.length - 6);
+
+        assertThat(payload.getTree(), is(aMapWithSize(7)));
+        assertThat(payload.getIssuer(), is("auth0"));
+        assertThat(payload.getExpiresAtAsInstant().getEpochSecond(), is(11111111L));
+        assertThat(payload.getClaim("name").asString(), is("J\u00f6rg \"JD\" Doe"));
+        assertThat(payload.getClaim("roles").asList(Object.class), contains("admin", Collections.singletonMap("scope", null)));
+        assertThat(payload.getClaim("age").asInt(), is(42));
+        assertThat(payload.getClaim("active").asBoolean(), is(true));
+        assertThat(payload.getClaim("nothing").isNull(), is(true));
+        assertThat(payload.getClaim("missing").isMissing(), is(true));
+        assertThat(payload.getClaims().keySet(), contains("iss", "exp", "name", "roles", "age", "active", "nothing"));
+        assertThat(payload.getTree().keySet(), contains("iss", "exp", "name", "roles", "age", "active", "nothing"));
+    }
+
+    @Test
+    public void shouldReadCustomClaimsFromTheSourceStringWhenLookedUp() {
+        String payloadJSON = "{\"sub\":\"emails\",\"roles\":{\"admin\":[1,2]},\"name\":\"\\\"quoted\\\"\"}";
+
+        Payload payload = new JWTParser().parsePayload(payloadJSON);
+
+        assertThat(payload.getSubject(), is("emails"));
+        assertThat(payload.getClaim("roles").toString(), is("{\"admin\":[1,2]}"));
+        assertThat(payload.getClaim("name").asString(), is("\"quoted\""));
+    }
+
+    @Test
+    public void shouldReadRegisteredClaimsFromTheSource() {
+        String payloadJSON = "{\"iss\":\"auth0\",\"sub\":null,\"aud\":[\"a\",null,\"b\"],\"exp\":1.7e9,"
+                + "\"nbf\":1477592,\"iat\":null,\"jti\":\"idid\"}";
+
+        Payload payload = new JWTParser().parsePayload(payloadJSON);
+
+        assertThat(payload.getIssuer(), is("auth0"));
+        assertThat(payload.getSubject(), is(nullValue()));
+        assertThat(payload.getAudience(), contains("a", null, "b"));
+        assertThat(payload.getExpiresAtAsInstant(), is(Instant.ofEpochSecond(1_700_000_000L)));
+        assertThat(payload.getNotBeforeAsInstant(), is(Instant.ofEpochSecond(1477592L)));
+        assertThat(payload.getIssuedAtAsInstant(), is(nullValue()));
+        assertThat(payload.getId(), is("idid"));
+        assertThat(payload.getClaim("iss").asString(), is("auth0"));
+        assertThat(payload.getClaim("aud").asList(String.class), contains("a", null, "b"));
+        assertThat(payload.getClaim("exp").asDouble(), is(1.7e9));
+        assertThat(payload.getClaim("sub").isNull(), is(true));
+    }
+
+    @Test
+    public void shouldThrowWhenReadingNonNumericDateFromTheSource() {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The claim 'nbf' contained a non-numeric date value.");
+
+        new JWTParser().parsePayload("{\"nbf\":{\"seconds\":1477592}}");
+    }
+
+    @Test
+    public void shouldThrowOutOfRangeWhenReadingNumericDateExceedingLongFromTheSource() {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage(
+                "The claim 'exp' value (123456789012345678901234) is out of the range representable as a NumericDate.");
+
+        new JWTParser().parsePayload("{\"exp\":123456789012345678901234}");
+    }
+
+    @Test
+    public void shouldThrowWhenReadingAudienceArrayOfObjectsFromTheSource() {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("Couldn't map the Claim's array contents to String");
+
+        new JWTParser().parsePayload("{\"aud\":[{\"name\":\"a\"}]}");
+    }
+
     @Test
     public void shouldGetStringArrayWhenParsingArrayNode() {
         Map<String, JsonNode> tree = new HashMap<>();
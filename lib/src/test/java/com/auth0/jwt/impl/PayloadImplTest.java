@@ -1,6 +1,7 @@
 package com.auth0.jwt.impl;
 
 import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.Payload;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
@@ -12,7 +13,9 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.io.*;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 
 import static com.auth0.jwt.impl.JWTParser.getDefaultObjectMapper;
@@ -24,10 +27,12 @@ public class PayloadImplTest {
     @Rule
     public ExpectedException exception = ExpectedException.none();
 
+    private static final long MISSING = Payload.MISSING_NUMERIC_DATE;
+
     private PayloadImpl payload;
-    private final Instant expiresAt = Instant.now().plusSeconds(10);
-    private final Instant notBefore = Instant.now();
-    private final Instant issuedAt = Instant.now();
+    private final Instant expiresAt = Instant.now().plusSeconds(10).truncatedTo(ChronoUnit.SECONDS);
+    private final Instant notBefore = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private final Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
 
     private ObjectMapper objectMapper;
 
@@ -37,20 +42,22 @@ public class PayloadImplTest {
 
         Map<String, JsonNode> tree = new HashMap<>();
         tree.put("extraClaim", new TextNode("extraValue"));
-        payload = new PayloadImpl("issuer", "subject", Collections.singletonList("audience"), expiresAt, notBefore, issuedAt, "jwtId", tree, objectMapper);
+        payload = new PayloadImpl("issuer", "subject", Collections.singletonList("audience"),
+                expiresAt.getEpochSecond(), notBefore.getEpochSecond(), issuedAt.getEpochSecond(), "jwtId", tree,
+                objectMapper);
     }
 
     @Test
     public void shouldHaveUnmodifiableTree() {
         exception.expect(UnsupportedOperationException.class);
-        PayloadImpl payload = new PayloadImpl(null, null, null, null, null, null, null, new HashMap<>(), objectMapper);
+        PayloadImpl payload = new PayloadImpl(null, null, null, MISSING, MISSING, MISSING, null, new HashMap<>(), objectMapper);
         payload.getTree().put("something", null);
     }
 
     @Test
     public void shouldHaveUnmodifiableAudience() {
         exception.expect(UnsupportedOperationException.class);
-        PayloadImpl payload = new PayloadImpl(null, null, new ArrayList<>(), null, null, null, null, null, objectMapper);
+        PayloadImpl payload = new PayloadImpl(null, null, new ArrayList<>(), MISSING, MISSING, MISSING, null, null, objectMapper);
         payload.getAudience().add("something");
     }
 
@@ -62,7 +69,7 @@ public class PayloadImplTest {
 
     @Test
     public void shouldGetNullIssuerIfMissing() {
-        PayloadImpl payload = new PayloadImpl(null, null, null, null, null, null, null, null, objectMapper);
+        PayloadImpl payload = new PayloadImpl(null, null, null, MISSING, MISSING, MISSING, null, null, objectMapper);
         assertThat(payload, is(notNullValue()));
         assertThat(payload.getIssuer(), is(nullValue()));
     }
@@ -75,7 +82,7 @@ public class PayloadImplTest {
 
     @Test
     public void shouldGetNullSubjectIfMissing() {
-        PayloadImpl payload = new PayloadImpl(null, null, null, null, null, null, null, null, objectMapper);
+        PayloadImpl payload = new PayloadImpl(null, null, null, MISSING, MISSING, MISSING, null, null, objectMapper);
         assertThat(payload, is(notNullValue()));
         assertThat(payload.getSubject(), is(nullValue()));
     }
@@ -90,7 +97,7 @@ public class PayloadImplTest {
 
     @Test
     public void shouldGetNullAudienceIfMissing() {
-        PayloadImpl payload = new PayloadImpl(null, null, null, null, null, null, null, null, objectMapper);
+        PayloadImpl payload = new PayloadImpl(null, null, null, MISSING, MISSING, MISSING, null, null, objectMapper);
         assertThat(payload, is(notNullValue()));
         assertThat(payload.getAudience(), is(nullValue()));
     }
@@ -100,14 +107,16 @@ public class PayloadImplTest {
         assertThat(payload, is(notNullValue()));
         assertThat(payload.getExpiresAt(), is(Date.from(expiresAt)));
         assertThat(payload.getExpiresAtAsInstant(), is(expiresAt));
+        assertThat(payload.getExpiresAtEpochSecond(), is(expiresAt.getEpochSecond()));
     }
 
     @Test
     public void shouldGetNullExpiresAtIfMissing() {
-        PayloadImpl payload = new PayloadImpl(null, null, null, null, null, null, null, null, objectMapper);
+        PayloadImpl payload = new PayloadImpl(null, null, null, MISSING, MISSING, MISSING, null, null, objectMapper);
         assertThat(payload, is(notNullValue()));
         assertThat(payload.getExpiresAt(), is(nullValue()));
         assertThat(payload.getExpiresAtAsInstant(), is(nullValue()));
+        assertThat(payload.getExpiresAtEpochSecond(), is(Payload.MISSING_NUMERIC_DATE));
     }
 
     @Test
@@ -115,14 +124,16 @@ public class PayloadImplTest {
         assertThat(payload, is(notNullValue()));
         assertThat(payload.getNotBefore(), is(Date.from(notBefore)));
         assertThat(payload.getNotBeforeAsInstant(), is(notBefore));
+        assertThat(payload.getNotBeforeEpochSecond(), is(notBefore.getEpochSecond()));
     }
 
     @Test
     public void shouldGetNullNotBeforeIfMissing() {
-        PayloadImpl payload = new PayloadImpl(null, null, null, null, null, null, null, null, objectMapper);
+        PayloadImpl payload = new PayloadImpl(null, null, null, MISSING, MISSING, MISSING, null, null, objectMapper);
         assertThat(payload, is(notNullValue()));
         assertThat(payload.getNotBefore(), is(nullValue()));
         assertThat(payload.getNotBeforeAsInstant(), is(nullValue()));
+        assertThat(payload.getNotBeforeEpochSecond(), is(Payload.MISSING_NUMERIC_DATE));
     }
 
     @Test
@@ -130,14 +141,16 @@ public class PayloadImplTest {
         assertThat(payload, is(notNullValue()));
         assertThat(payload.getIssuedAt(), is(Date.from(issuedAt)));
         assertThat(payload.getIssuedAtAsInstant(), is(issuedAt));
+        assertThat(payload.getIssuedAtEpochSecond(), is(issuedAt.getEpochSecond()));
     }
 
     @Test
     public void shouldGetNullIssuedAtIfMissing() {
-        PayloadImpl payload = new PayloadImpl(null, null, null, null, null, null, null, null, objectMapper);
+        PayloadImpl payload = new PayloadImpl(null, null, null, MISSING, MISSING, MISSING, null, null, objectMapper);
         assertThat(payload, is(notNullValue()));
         assertThat(payload.getIssuedAt(), is(nullValue()));
         assertThat(payload.getIssuedAtAsInstant(), is(nullValue()));
+        assertThat(payload.getIssuedAtEpochSecond(), is(Payload.MISSING_NUMERIC_DATE));
     }
 
     @Test
@@ -148,7 +161,7 @@ public class PayloadImplTest {
 
     @Test
     public void shouldGetNullJWTIdIfMissing() {
-        PayloadImpl payload = new PayloadImpl(null, null, null, null, null, null, null, null, objectMapper);
+        PayloadImpl payload = new PayloadImpl(null, null, null, MISSING, MISSING, MISSING, null, null, objectMapper);
         assertThat(payload, is(notNullValue()));
         assertThat(payload.getId(), is(nullValue()));
     }
@@ -162,7 +175,7 @@ public class PayloadImplTest {
 
     @Test
     public void shouldGetNotNullExtraClaimIfMissing() {
-        PayloadImpl payload = new PayloadImpl(null, null, null, null, null, null, null, null, objectMapper);
+        PayloadImpl payload = new PayloadImpl(null, null, null, MISSING, MISSING, MISSING, null, null, objectMapper);
         assertThat(payload, is(notNullValue()));
         assertThat(payload.getClaim("missing"), is(notNullValue()));
         assertThat(payload.getClaim("missing").isMissing(), is(true));
@@ -174,7 +187,7 @@ public class PayloadImplTest {
         Map<String, JsonNode> tree = new HashMap<>();
         tree.put("extraClaim", new TextNode("extraValue"));
         tree.put("sub", new TextNode("auth0"));
-        PayloadImpl payload = new PayloadImpl(null, null, null, null, null, null, null, tree, objectMapper);
+        PayloadImpl payload = new PayloadImpl(null, null, null, MISSING, MISSING, MISSING, null, tree, objectMapper);
         assertThat(payload, is(notNullValue()));
         Map<String, Claim> claims = payload.getClaims();
         assertThat(claims, is(notNullValue()));
@@ -191,4 +204,41 @@ public class PayloadImplTest {
         exception.expect(UnsupportedOperationException.class);
         claims.put("name", null);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldKeepTheSerializedFormOfEarlierVersions() {
+        ObjectStreamClass serialized = ObjectStreamClass.lookup(PayloadImpl.class);
+        assertThat(serialized.getSerialVersionUID(), is(1659021498824562311L));
+        assertThat(serialized.getField("expiresAt").getType(), is(equalTo(Instant.class)));
+        assertThat(serialized.getField("notBefore").getType(), is(equalTo(Instant.class)));
+        assertThat(serialized.getField("issuedAt").getType(), is(equalTo(Instant.class)));
+    }
+
+    @Test
+    public void shouldSerializeAndDeserializeTheRegisteredDates() throws Exception {
+        PayloadImpl missing = new PayloadImpl(null, null, null, MISSING, MISSING, MISSING, null, null, objectMapper);
+
+        PayloadImpl deserialized = serializeAndDeserialize(payload);
+        PayloadImpl deserializedMissing = serializeAndDeserialize(missing);
+
+        assertThat(deserialized.getIssuer(), is("issuer"));
+        assertThat(deserialized.getAudience(), contains("audience"));
+        assertThat(deserialized.getExpiresAtAsInstant(), is(expiresAt));
+        assertThat(deserialized.getNotBeforeAsInstant(), is(notBefore));
+        assertThat(deserialized.getIssuedAtAsInstant(), is(issuedAt));
+        assertThat(deserialized.getClaim("extraClaim").asString(), is("extraValue"));
+        assertThat(deserializedMissing.getExpiresAtEpochSecond(), is(MISSING));
+        assertThat(deserializedMissing.getNotBeforeEpochSecond(), is(MISSING));
+        assertThat(deserializedMissing.getIssuedAtEpochSecond(), is(MISSING));
+    }
+
+    private static PayloadImpl serializeAndDeserialize(PayloadImpl payload) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(payload);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (PayloadImpl) in.readObject();
+        }
+    }
+}
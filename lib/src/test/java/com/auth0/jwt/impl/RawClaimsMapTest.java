@@ -0,0 +1,75 @@
+package com.auth0.jwt.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class RawClaimsMapTest {
+
+    private static final String JSON = "{\"roles\":[\"admin\"],\"name\":\"John\"}";
+
+    private RawClaimsMap claims;
+
+    @Before
+    public void setUp() {
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        claims = new RawClaimsMap(new RawClaimsMap.Source(bytes, 0), new ObjectMapper());
+        claims.putRaw("roles", 9, 18);
+        claims.putNode("name", new TextNode("John"));
+    }
+
+    @Test
+    public void shouldParseRawValuesOnceWhenLookedUp() {
+        JsonNode roles = claims.get("roles");
+
+        assertThat(roles.isArray(), is(true));
+        assertThat(roles.get(0).asText(), is("admin"));
+        assertThat(claims.get("roles"), is(sameInstance(roles)));
+        assertThat(claims.get("name").asText(), is("John"));
+    }
+
+    @Test
+    public void shouldNotContainUnknownOrNullNames() {
+        assertThat(claims.get("unknown"), is(nullValue()));
+        assertThat(claims.get(null), is(nullValue()));
+        assertThat(claims.containsKey("roles"), is(true));
+        assertThat(claims.containsKey(null), is(false));
+        assertThat(claims, is(aMapWithSize(2)));
+    }
+
+    @Test
+    public void shouldKeepTheClaimsInTheirOrder() {
+        claims.putRaw("admin", 10, 17);
+
+        assertThat(claims.keySet(), contains("roles", "name", "admin"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldBeSerializedWithItsValuesParsed() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(claims);
+        }
+        Map<String, JsonNode> deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (Map<String, JsonNode>) in.readObject();
+        }
+
+        assertThat(deserialized, is(not(instanceOf(RawClaimsMap.class))));
+        assertThat(deserialized, is(equalTo(claims)));
+        assertThat(deserialized.keySet(), contains("roles", "name"));
+    }
+}
@@ -18,6 +18,9 @@ public class PayloadTest {
         assertThat(payload.getExpiresAtAsInstant(), is(date.toInstant()));
         assertThat(payload.getIssuedAtAsInstant(), is(date.toInstant()));
         assertThat(payload.getNotBeforeAsInstant(), is(date.toInstant()));
+        assertThat(payload.getExpiresAtEpochSecond(), is(1646667492L));
+        assertThat(payload.getIssuedAtEpochSecond(), is(1646667492L));
+        assertThat(payload.getNotBeforeEpochSecond(), is(1646667492L));
     }
 
     @Test
@@ -26,6 +29,9 @@ public class PayloadTest {
         assertThat(payload.getExpiresAtAsInstant(), is(nullValue()));
         assertThat(payload.getIssuedAtAsInstant(), is(nullValue()));
         assertThat(payload.getNotBeforeAsInstant(), is(nullValue()));
+        assertThat(payload.getExpiresAtEpochSecond(), is(Payload.MISSING_NUMERIC_DATE));
+        assertThat(payload.getIssuedAtEpochSecond(), is(Payload.MISSING_NUMERIC_DATE));
+        assertThat(payload.getNotBeforeEpochSecond(), is(Payload.MISSING_NUMERIC_DATE));
     }
 
     static class PayloadImplForTest implements Payload {
@@ -0,0 +1,374 @@
+package com.auth0.jwt.keys;
+
+import com.auth0.jwt.interfaces.ECDSAKeyProvider;
+import com.auth0.jwt.interfaces.EdDSAKeyProvider;
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+import org.junit.Test;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingKeyProviderTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    public void shouldCachePublicKeysByKeyId() {
+        RSAKeyProvider delegate = mock(RSAKeyProvider.class);
+        RSAPublicKey key = mock(RSAPublicKey.class);
+        when(delegate.getPublicKeyById("my-key-id")).thenReturn(key);
+        RSAKeyProvider provider = CachingKeyProvider.builder().buildRSA(delegate);
+
+        assertThat(provider.getPublicKeyById("my-key-id"), is(key));
+        assertThat(provider.getPublicKeyById("my-key-id"), is(key));
+        verify(delegate, times(1)).getPublicKeyById("my-key-id");
+    }
+
+    @Test
+    public void shouldCacheNullKeyId() {
+        ECDSAKeyProvider delegate = mock(ECDSAKeyProvider.class);
+        ECPublicKey key = mock(ECPublicKey.class);
+        when(delegate.getPublicKeyById(null)).thenReturn(key);
+        ECDSAKeyProvider provider = CachingKeyProvider.builder().buildECDSA(delegate);
+
+        assertThat(provider.getPublicKeyById(null), is(key));
+        assertThat(provider.getPublicKeyById(null), is(key));
+        assertThat(provider.getPublicKeyById(""), is(nullValue()));
+        verify(delegate, times(1)).getPublicKeyById(null);
+    }
+
+    @Test
+    public void shouldReloadPublicKeyAfterTtl() {
+        RSAKeyProvider delegate = mock(RSAKeyProvider.class);
+        RSAPublicKey key = mock(RSAPublicKey.class);
+        RSAPublicKey rotatedKey = mock(RSAPublicKey.class);
+        when(delegate.getPublicKeyById("my-key-id")).thenReturn(key, rotatedKey);
+        RSAKeyProvider provider = CachingKeyProvider.builder()
+                .withTtl(Duration.ofMinutes(1))
+                .withNanoTime(now::get)
+                .buildRSA(delegate);
+
+        assertThat(provider.getPublicKeyById("my-key-id"), is(key));
+        now.addAndGet(Duration.ofSeconds(59).toNanos());
+        assertThat(provider.getPublicKeyById("my-key-id"), is(key));
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(provider.getPublicKeyById("my-key-id"), is(rotatedKey));
+        verify(delegate, times(2)).getPublicKeyById("my-key-id");
+    }
+
+    @Test
+    public void shouldCacheUnknownKeyIdsForTheNegativeTtl() {
+        RSAKeyProvider delegate = mock(RSAKeyProvider.class);
+        RSAKeyProvider provider = CachingKeyProvider.builder()
+                .withNegativeTtl(Duration.ofSeconds(5))
+                .withNanoTime(now::get)
+                .buildRSA(delegate);
+
+        assertThat(provider.getPublicKeyById("unknown"), is(nullValue()));
+        assertThat(provider.getPublicKeyById("unknown"), is(nullValue()));
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(provider.getPublicKeyById("unknown"), is(nullValue()));
+        verify(delegate, times(2)).getPublicKeyById("unknown");
+    }
+
+    @Test
+    public void shouldNotCacheUnknownKeyIdsWhenNegativeTtlIsZero() {
+        RSAKeyProvider delegate = mock(RSAKeyProvider.class);
+        RSAKeyProvider provider = CachingKeyProvider.builder()
+                .withNegativeTtl(Duration.ZERO)
+                .buildRSA(delegate);
+
+        provider.getPublicKeyById("unknown");
+        provider.getPublicKeyById("unknown");
+        verify(delegate, times(2)).getPublicKeyById("unknown");
+    }
+
+    @Test
+    public void shouldNotCacheFailedLookups() {
+        RSAKeyProvider delegate = mock(RSAKeyProvider.class);
+        RSAPublicKey key = mock(RSAPublicKey.class);
+        when(delegate.getPublicKeyById("my-key-id"))
+                .thenThrow(new IllegalStateException("unavailable"))
+                .thenReturn(key);
+        RSAKeyProvider provider = CachingKeyProvider.builder().buildRSA(delegate);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> provider.getPublicKeyById("my-key-id"));
+        assertThat(e.getMessage(), is("unavailable"));
+        assertThat(provider.getPublicKeyById("my-key-id"), is(key));
+    }
+
+    @Test
+    public void shouldEvictUnknownKeyIdsBeforeKnownKeys() {
+        RSAKeyProvider delegate = mock(RSAKeyProvider.class);
+        RSAPublicKey key = mock(RSAPublicKey.class);
+        RSAPublicKey otherKey = mock(RSAPublicKey.class);
+        when(delegate.getPublicKeyById("key-1")).thenReturn(key);
+        when(delegate.getPublicKeyById("key-2")).thenReturn(otherKey);
+        RSAKeyProvider provider = CachingKeyProvider.builder()
+                .withMaxSize(2)
+                .buildRSA(delegate);
+
+        provider.getPublicKeyById("key-1");
+        provider.getPublicKeyById("unknown-1");
+        provider.getPublicKeyById("key-2");
+        provider.getPublicKeyById("unknown-2");
+
+        assertThat(provider.getPublicKeyById("key-1"), is(key));
+        assertThat(provider.getPublicKeyById("key-2"), is(otherKey));
+        verify(delegate, times(1)).getPublicKeyById("key-1");
+        verify(delegate, times(1)).getPublicKeyById("key-2");
+    }
+
+    @Test
+    public void shouldLoadAnUncachedKeyIdOnceForConcurrentLookups() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        ECPublicKey key = mock(ECPublicKey.class);
+        ECDSAKeyProvider provider = CachingKeyProvider.builder().buildECDSA(new ECDSAKeyProvider() {
+            @Override
+            public ECPublicKey getPublicKeyById(String keyId) {
+                calls.incrementAndGet();
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return key;
+            }
+
+            @Override
+            public ECPrivateKey getPrivateKey() {
+                return null;
+            }
+
+            @Override
+            public String getPrivateKeyId() {
+                return null;
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ECPublicKey>> results = new ArrayList<>();
+            results.add(executor.submit(() -> provider.getPublicKeyById("new-key-id")));
+            loading.await(5, TimeUnit.SECONDS);
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> provider.getPublicKeyById("new-key-id")));
+            }
+            Thread.sleep(50);
+            release.countDown();
+            for (Future<ECPublicKey> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS), is(key));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    public void shouldNotReloadAKeyIdLoadedSinceTheLookupMissed() throws Exception {
+        RSAKeyProvider delegate = mock(RSAKeyProvider.class);
+        RSAPublicKey key = mock(RSAPublicKey.class);
+        RSAPublicKey rotatedKey = mock(RSAPublicKey.class);
+        when(delegate.getPublicKeyById("my-key-id")).thenReturn(key, rotatedKey);
+        CountDownLatch missed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean paused = new AtomicBoolean();
+        Thread[] lagging = new Thread[1];
+        RSAKeyProvider provider = CachingKeyProvider.builder()
+                .withTtl(Duration.ofMinutes(1))
+                .withNanoTime(() -> {
+                    // the lagging lookup reads the clock right after it found the expired entry
+                    if (Thread.currentThread() == lagging[0] && paused.compareAndSet(false, true)) {
+                        missed.countDown();
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    return now.get();
+                })
+                .buildRSA(delegate);
+        assertThat(provider.getPublicKeyById("my-key-id"), is(key));
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        FutureTask<RSAPublicKey> lookup = new FutureTask<>(() -> provider.getPublicKeyById("my-key-id"));
+        lagging[0] = new Thread(lookup);
+        lagging[0].start();
+        assertThat(missed.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(provider.getPublicKeyById("my-key-id"), is(rotatedKey));
+        release.countDown();
+
+        assertThat(lookup.get(5, TimeUnit.SECONDS), is(rotatedKey));
+        verify(delegate, times(2)).getPublicKeyById("my-key-id");
+    }
+
+    @Test
+    public void shouldNotGrowPastItsSizeWithConcurrentLoads() throws Exception {
+        RSAPublicKey key = mock(RSAPublicKey.class);
+        KeyCache<RSAPublicKey> cache = new KeyCache<>(keyId -> key, keyId -> CompletableFuture.completedFuture(key),
+                Duration.ofMinutes(1).toNanos(), 0, 4, System::nanoTime);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t;
+                results.add(executor.submit(() -> {
+                    for (int i = offset; i < 400; i += 4) {
+                        cache.get("key-" + i);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(cache.size(), is(4));
+    }
+
+    @Test
+    public void shouldShareAsyncLookupsWithTheCache() throws Exception {
+        RSAKeyProvider delegate = mock(RSAKeyProvider.class);
+        RSAPublicKey key = mock(RSAPublicKey.class);
+        CompletableFuture<RSAPublicKey> lookup = new CompletableFuture<>();
+        when(delegate.getPublicKeyByIdAsync("my-key-id")).thenReturn(lookup);
+        RSAKeyProvider provider = CachingKeyProvider.builder().buildRSA(delegate);
+
+        CompletableFuture<RSAPublicKey> first = provider.getPublicKeyByIdAsync("my-key-id");
+        CompletableFuture<RSAPublicKey> second = provider.getPublicKeyByIdAsync("my-key-id");
+        assertThat(first.isDone(), is(false));
+        lookup.complete(key);
+
+        assertThat(first.get(), is(key));
+        assertThat(second.get(), is(key));
+        assertThat(provider.getPublicKeyByIdAsync("my-key-id").get(), is(key));
+        assertThat(provider.getPublicKeyById("my-key-id"), is(key));
+        verify(delegate, times(1)).getPublicKeyByIdAsync("my-key-id");
+        verify(delegate, never()).getPublicKeyById("my-key-id");
+    }
+
+    @Test
+    public void shouldNotCacheFailedAsyncLookups() throws Exception {
+        RSAKeyProvider delegate = mock(RSAKeyProvider.class);
+        RSAPublicKey key = mock(RSAPublicKey.class);
+        CompletableFuture<RSAPublicKey> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("unavailable"));
+        when(delegate.getPublicKeyByIdAsync("my-key-id"))
+                .thenReturn(failed)
+                .thenReturn(CompletableFuture.completedFuture(key));
+        RSAKeyProvider provider = CachingKeyProvider.builder().buildRSA(delegate);
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> provider.getPublicKeyByIdAsync("my-key-id").get());
+        assertThat(e.getCause().getMessage(), is("unavailable"));
+        assertThat(provider.getPublicKeyByIdAsync("my-key-id").get(), is(key));
+    }
+
+    @Test
+    public void shouldLoadAsyncLookupsOnTheExecutor() throws Exception {
+        RSAKeyProvider delegate = mock(RSAKeyProvider.class);
+        RSAPublicKey key = mock(RSAPublicKey.class);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> loadingThreads = new CopyOnWriteArrayList<>();
+        when(delegate.getPublicKeyById("my-key-id")).thenAnswer(invocation -> {
+            loadingThreads.add(Thread.currentThread());
+            release.await(5, TimeUnit.SECONDS);
+            return key;
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            RSAKeyProvider provider = CachingKeyProvider.builder().withExecutor(executor).buildRSA(delegate);
+
+            CompletableFuture<RSAPublicKey> first = provider.getPublicKeyByIdAsync("my-key-id");
+            CompletableFuture<RSAPublicKey> second = provider.getPublicKeyByIdAsync("my-key-id");
+            assertThat(first.isDone(), is(false));
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS), is(key));
+            assertThat(second.get(5, TimeUnit.SECONDS), is(key));
+            assertThat(provider.getPublicKeyByIdAsync("my-key-id").get(), is(key));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loadingThreads, hasSize(1));
+        assertThat(loadingThreads.get(0), is(not(Thread.currentThread())));
+        verify(delegate, never()).getPublicKeyByIdAsync("my-key-id");
+    }
+
+    @Test
+    public void shouldDelegatePrivateKeyAndId() {
+        RSAKeyProvider delegate = mock(RSAKeyProvider.class);
+        RSAPrivateKey privateKey = mock(RSAPrivateKey.class);
+        when(delegate.getPrivateKey()).thenReturn(privateKey);
+        when(delegate.getPrivateKeyId()).thenReturn("my-key-id");
+        RSAKeyProvider provider = CachingKeyProvider.builder().buildRSA(delegate);
+
+        assertThat(provider.getPrivateKey(), is(privateKey));
+        assertThat(provider.getPrivateKeyId(), is("my-key-id"));
+    }
+
+    @Test
+    public void shouldCacheEdDSAPublicKeysAndDelegatePrivateKey() {
+        EdDSAKeyProvider delegate = mock(EdDSAKeyProvider.class);
+        PublicKey key = mock(PublicKey.class);
+        PrivateKey privateKey = mock(PrivateKey.class);
+        when(delegate.getPublicKeyById("my-key-id")).thenReturn(key);
+        when(delegate.getPrivateKey()).thenReturn(privateKey);
+        EdDSAKeyProvider provider = CachingKeyProvider.builder().buildEdDSA(delegate);
+
+        assertThat(provider.getPublicKeyById("my-key-id"), is(key));
+        assertThat(provider.getPublicKeyById("my-key-id"), is(key));
+        assertThat(provider.getPrivateKey(), is(privateKey));
+        verify(delegate, times(1)).getPublicKeyById("my-key-id");
+    }
+
+    @Test
+    public void shouldThrowOnInvalidConfiguration() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> CachingKeyProvider.builder().withTtl(Duration.ZERO));
+        assertThat(e.getMessage(), is("The TTL must be a positive duration."));
+
+        e = assertThrows(IllegalArgumentException.class,
+                () -> CachingKeyProvider.builder().withNegativeTtl(Duration.ofSeconds(-1)));
+        assertThat(e.getMessage(), is("The negative TTL can't be null or negative."));
+
+        e = assertThrows(IllegalArgumentException.class,
+                () -> CachingKeyProvider.builder().withMaxSize(0));
+        assertThat(e.getMessage(), is("The cache size must be greater than zero."));
+
+        e = assertThrows(IllegalArgumentException.class,
+                () -> CachingKeyProvider.builder().withExecutor(null));
+        assertThat(e.getMessage(), is("The Executor cannot be null."));
+
+        e = assertThrows(IllegalArgumentException.class,
+                () -> CachingKeyProvider.builder().buildRSA(null));
+        assertThat(e.getMessage(), is("The Key Provider cannot be null."));
+    }
+}
@@ -0,0 +1,243 @@
+package com.auth0.jwt.keys;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.auth0.jwt.PemUtils.readPrivateKeyFromFile;
+import static com.auth0.jwt.PemUtils.readPublicKeyFromFile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThrows;
+
+public class JwksKeyProviderTest {
+
+    private static final String JWKS_FILE = "src/test/resources/jwks.json";
+    private static final String RSA_PRIVATE_KEY_FILE = "src/test/resources/rsa-private.pem";
+    private static final String RSA_PUBLIC_KEY_FILE = "src/test/resources/rsa-public.pem";
+    private static final String EC_PRIVATE_KEY_FILE = "src/test/resources/ec256-key-private.pem";
+    private static final String EC_PUBLIC_KEY_FILE = "src/test/resources/ec256-key-public.pem";
+    private static final String EMPTY_JWKS = "{\"keys\":[]}";
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldReadRSAAndECKeysFromFile() throws Exception {
+        try (JwksKeyProvider provider = JwksKeyProvider.builder(JwksSource.fromFile(Paths.get(JWKS_FILE))).build()) {
+            assertThat(provider.size(), is(2));
+            assertThat(provider.forRSA().getPublicKeyById("rsa-key"),
+                    is(readPublicKeyFromFile(RSA_PUBLIC_KEY_FILE, "RSA")));
+            assertThat(provider.forECDSA().getPublicKeyById("ec-key"),
+                    is(readPublicKeyFromFile(EC_PUBLIC_KEY_FILE, "EC")));
+        }
+    }
+
+    @Test
+    public void shouldReadKeysFromClasspath() throws Exception {
+        try (JwksKeyProvider provider = JwksKeyProvider.builder(JwksSource.fromClasspath("jwks.json")).build()) {
+            assertThat(provider.forRSA().getPublicKeyById("rsa-key"), is(notNullValue()));
+        }
+    }
+
+    @Test
+    public void shouldThrowWhenClasspathResourceIsMissing() throws Exception {
+        exception.expect(FileNotFoundException.class);
+        exception.expectMessage("The resource 'missing.json' was not found.");
+        JwksKeyProvider.builder(JwksSource.fromClasspath("missing.json")).build();
+    }
+
+    @Test
+    public void shouldThrowWhenTheJwkSetIsInvalid() throws Exception {
+        exception.expect(IOException.class);
+        exception.expectMessage("The JWK Set doesn't contain a 'keys' array.");
+        JwksKeyProvider.builder(() -> "{\"kty\":\"RSA\"}").build();
+    }
+
+    @Test
+    public void shouldVerifyTokensWithTheJwkSetKeys() throws Exception {
+        RSAPrivateKey rsaPrivateKey = (RSAPrivateKey) readPrivateKeyFromFile(RSA_PRIVATE_KEY_FILE, "RSA");
+        ECPrivateKey ecPrivateKey = (ECPrivateKey) readPrivateKeyFromFile(EC_PRIVATE_KEY_FILE, "EC");
+        String rsaToken = JWT.create().withKeyId("rsa-key").sign(Algorithm.RSA256(null, rsaPrivateKey));
+        String ecToken = JWT.create().withKeyId("ec-key").sign(Algorithm.ECDSA256(null, ecPrivateKey));
+
+        try (JwksKeyProvider provider = JwksKeyProvider.builder(JwksSource.fromFile(Paths.get(JWKS_FILE))).build()) {
+            JWT.require(Algorithm.RSA256(provider.forRSA())).build().verify(rsaToken);
+            JWT.require(Algorithm.ECDSA256(provider.forECDSA())).build().verify(ecToken);
+        }
+    }
+
+    @Test
+    public void shouldNotReturnKeysOfAnotherType() throws Exception {
+        try (JwksKeyProvider provider = JwksKeyProvider.builder(JwksSource.fromFile(Paths.get(JWKS_FILE))).build()) {
+            assertThat(provider.forECDSA().getPublicKeyById("rsa-key"), is(nullValue()));
+            assertThat(provider.forRSA().getPublicKeyById("ec-key"), is(nullValue()));
+            assertThat(provider.forRSA().getPublicKeyById("hmac-key"), is(nullValue()));
+            assertThat(provider.forRSA().getPrivateKey(), is(nullValue()));
+            assertThat(provider.forRSA().getPrivateKeyId(), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void shouldReturnTheOnlyKeyOfATypeWhenKeyIdIsNull() throws Exception {
+        try (JwksKeyProvider provider = JwksKeyProvider.builder(JwksSource.fromFile(Paths.get(JWKS_FILE))).build()) {
+            assertThat(provider.forRSA().getPublicKeyById(null), is(notNullValue()));
+            assertThat(provider.forECDSA().getPublicKeyById(null), is(notNullValue()));
+        }
+    }
+
+    @Test
+    public void shouldSkipKeysNotMeantForSignatures() throws Exception {
+        String jwks = new String(Files.readAllBytes(Paths.get(JWKS_FILE)), StandardCharsets.UTF_8)
+                .replace("\"use\": \"sig\"", "\"use\": \"enc\"");
+        try (JwksKeyProvider provider = JwksKeyProvider.builder(() -> jwks).build()) {
+            assertThat(provider.size(), is(0));
+        }
+    }
+
+    @Test
+    public void shouldKeepTheCurrentKeysWhenARefreshFails() throws Exception {
+        AtomicReference<String> jwks = new AtomicReference<>(readJwks());
+        try (JwksKeyProvider provider = JwksKeyProvider.builder(jwks::get).build()) {
+            jwks.set("not json");
+            assertThat(provider.refresh(), is(false));
+            assertThat(provider.forRSA().getPublicKeyById("rsa-key"), is(notNullValue()));
+
+            jwks.set(EMPTY_JWKS);
+            assertThat(provider.refresh(), is(true));
+            assertThat(provider.forRSA().getPublicKeyById("rsa-key"), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void shouldReportRefreshFailures() throws Exception {
+        AtomicReference<String> jwks = new AtomicReference<>(readJwks());
+        List<Exception> failures = new ArrayList<>();
+        try (JwksKeyProvider provider = JwksKeyProvider.builder(jwks::get)
+                .withRefreshFailureListener(failure -> {
+                    failures.add(failure);
+                    throw new IllegalStateException("The listener failed.");
+                })
+                .build()) {
+            assertThat(provider.getLastRefreshFailure(), is(nullValue()));
+
+            jwks.set("not json");
+            assertThat(provider.refresh(), is(false));
+            assertThat(failures, hasSize(1));
+            assertThat(provider.getLastRefreshFailure(), is(sameInstance(failures.get(0))));
+
+            jwks.set(EMPTY_JWKS);
+            assertThat(provider.refresh(), is(true));
+            assertThat(failures, hasSize(1));
+            assertThat(provider.getLastRefreshFailure(), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void shouldRefreshInTheBackgroundOnUnknownKeyId() throws Exception {
+        AtomicReference<String> jwks = new AtomicReference<>(EMPTY_JWKS);
+        AtomicInteger fetches = new AtomicInteger();
+        CountDownLatch refreshed = new CountDownLatch(1);
+        AtomicLong now = new AtomicLong();
+        JwksSource source = () -> {
+            if (fetches.incrementAndGet() > 1) {
+                refreshed.countDown();
+            }
+            return jwks.get();
+        };
+
+        try (JwksKeyProvider provider = JwksKeyProvider.builder(source)
+                .withMinRefreshInterval(Duration.ofSeconds(30))
+                .withNanoTime(now::get)
+                .build()) {
+            jwks.set(readJwks());
+
+            assertThat(provider.forRSA().getPublicKeyById("rsa-key"), is(nullValue()));
+            assertThat(fetches.get(), is(1));
+
+            now.addAndGet(Duration.ofSeconds(30).toNanos());
+            assertThat(provider.forRSA().getPublicKeyById("rsa-key"), is(nullValue()));
+            assertThat(refreshed.await(5, TimeUnit.SECONDS), is(true));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (provider.size() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(provider.forRSA().getPublicKeyById("rsa-key"), is(notNullValue()));
+            assertThat(fetches.get(), is(2));
+        }
+    }
+
+    @Test
+    public void shouldRefreshPeriodicallyOnTheGivenScheduler() throws Exception {
+        AtomicReference<String> jwks = new AtomicReference<>(EMPTY_JWKS);
+        CountDownLatch refreshed = new CountDownLatch(2);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            JwksKeyProvider provider = JwksKeyProvider.builder(() -> {
+                refreshed.countDown();
+                return jwks.get();
+            })
+                    .withRefreshInterval(Duration.ofMillis(10))
+                    .withScheduler(scheduler)
+                    .build();
+            jwks.set(readJwks());
+
+            assertThat(refreshed.await(5, TimeUnit.SECONDS), is(true));
+            provider.close();
+            assertThat(scheduler.isShutdown(), is(false));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldThrowOnInvalidConfiguration() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> JwksKeyProvider.builder(null));
+        assertThat(e.getMessage(), is("The JWKS source cannot be null."));
+
+        e = assertThrows(IllegalArgumentException.class,
+                () -> JwksKeyProvider.builder(() -> EMPTY_JWKS).withRefreshInterval(Duration.ZERO));
+        assertThat(e.getMessage(), is("The refresh interval must be a positive duration."));
+
+        e = assertThrows(IllegalArgumentException.class,
+                () -> JwksKeyProvider.builder(() -> EMPTY_JWKS).withMinRefreshInterval(Duration.ofSeconds(-1)));
+        assertThat(e.getMessage(), is("The minimum refresh interval can't be null or negative."));
+
+        e = assertThrows(IllegalArgumentException.class,
+                () -> JwksKeyProvider.builder(() -> EMPTY_JWKS).withScheduler(null));
+        assertThat(e.getMessage(), is("The scheduler cannot be null."));
+
+        e = assertThrows(IllegalArgumentException.class,
+                () -> JwksKeyProvider.builder(() -> EMPTY_JWKS).withRefreshFailureListener(null));
+        assertThat(e.getMessage(), is("The refresh failure listener cannot be null."));
+
+        e = assertThrows(IllegalArgumentException.class, () -> JwksSource.fromFile((Path) null));
+        assertThat(e.getMessage(), is("The path cannot be null."));
+    }
+
+    private static String readJwks() throws IOException {
+        return new String(Files.readAllBytes(Paths.get(JWKS_FILE)), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,180 @@
+package com.auth0.jwt.revocation;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThrows;
+
+public class TokenDenylistTest {
+
+    private static final Algorithm ALGORITHM = Algorithm.HMAC256("secret");
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    public void shouldRevokeTokensByJwtId() {
+        TokenDenylist denylist = denylistAt(NOW);
+        denylist.revoke(token(JWT.create().withJWTId("jwt_id_123").withSubject("1")));
+
+        assertThat(denylist.isRevoked(token(JWT.create().withJWTId("jwt_id_123").withSubject("2"))), is(true));
+        assertThat(denylist.isRevoked(token(JWT.create().withJWTId("jwt_id_456"))), is(false));
+        assertThat(denylist.size(), is(1));
+    }
+
+    @Test
+    public void shouldRevokeTokensWithoutJwtIdByToken() {
+        TokenDenylist denylist = denylistAt(NOW);
+        DecodedJWT jwt = token(JWT.create().withSubject("1"));
+        denylist.revoke(jwt);
+
+        assertThat(denylist.isRevoked(JWT.decode(jwt.getToken())), is(true));
+        assertThat(denylist.isRevoked(token(JWT.create().withSubject("2"))), is(false));
+    }
+
+    @Test
+    public void shouldRevokeJwtIdUntilTheGivenInstant() {
+        DecodedJWT jwt = token(JWT.create().withJWTId("jwt_id_123"));
+        TokenDenylist denylist = denylistAt(NOW);
+        denylist.revoke("jwt_id_123", NOW.plusSeconds(60));
+        assertThat(denylist.isRevoked(jwt), is(true));
+
+        denylist = denylistAt(NOW);
+        denylist.revoke("jwt_id_123", null);
+        assertThat(denylist.isRevoked(jwt), is(true));
+
+        denylist = denylistAt(NOW);
+        denylist.revoke("jwt_id_123", NOW);
+        assertThat(denylist.isRevoked(jwt), is(false));
+        assertThat(denylist.size(), is(0));
+    }
+
+    @Test
+    public void shouldExpireEntriesAtTheTokenExpiresAt() {
+        DecodedJWT jwt = token(JWT.create().withJWTId("jwt_id_123").withExpiresAt(NOW.plusSeconds(60)));
+        TokenDenylist denylist = denylistAt(NOW);
+        denylist.revoke(jwt);
+        assertThat(denylist.isRevoked(jwt), is(true));
+
+        TokenDenylist later = denylistAt(NOW.plusSeconds(60));
+        later.revoke(jwt);
+        assertThat(later.isRevoked(jwt), is(false));
+        assertThat(later.size(), is(0));
+    }
+
+    @Test
+    public void shouldKeepTheLatestExpirationOfARevokedJwtId() {
+        DecodedJWT jwt = token(JWT.create().withJWTId("jwt_id_123"));
+        MutableClock clock = new MutableClock(NOW);
+        TokenDenylist denylist = new TokenDenylist(0, clock);
+        denylist.revoke("jwt_id_123", NOW.plusSeconds(3600));
+        denylist.revoke("jwt_id_123", NOW.plusSeconds(60));
+        assertThat(denylist.size(), is(1));
+
+        clock.instant = NOW.plusSeconds(600);
+        assertThat(denylist.isRevoked(jwt), is(true));
+    }
+
+    @Test
+    public void shouldGrowAndPurgeExpiredEntries() {
+        MutableClock clock = new MutableClock(NOW);
+        TokenDenylist denylist = new TokenDenylist(0, clock);
+        for (int i = 0; i < 10_000; i++) {
+            denylist.revoke("jwt_id_" + i, NOW.plusSeconds(i % 2 == 0 ? 60 : 3600));
+        }
+        assertThat(denylist.size(), is(10_000));
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(denylist.isRevoked(token(JWT.create().withJWTId("jwt_id_" + i))), is(true));
+        }
+        assertThat(denylist.isRevoked(token(JWT.create().withJWTId("jwt_id_10000"))), is(false));
+
+        clock.instant = NOW.plusSeconds(60);
+        assertThat(denylist.isRevoked(token(JWT.create().withJWTId("jwt_id_0"))), is(false));
+        assertThat(denylist.isRevoked(token(JWT.create().withJWTId("jwt_id_1"))), is(true));
+        denylist.purgeExpired();
+        assertThat(denylist.size(), is(5_000));
+        assertThat(denylist.isRevoked(token(JWT.create().withJWTId("jwt_id_1"))), is(true));
+    }
+
+    @Test
+    public void shouldLoadSnapshotsSkippingExpiredEntries() throws Exception {
+        TokenDenylist denylist = denylistAt(NOW);
+        denylist.revoke("jwt_id_123", NOW.plusSeconds(60));
+        denylist.revoke("jwt_id_456", NOW.plusSeconds(3600));
+        denylist.revoke(token(JWT.create().withSubject("1")));
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        denylist.writeSnapshot(snapshot);
+
+        TokenDenylist later = denylistAt(NOW.plusSeconds(60));
+        later.revoke("jwt_id_789", null);
+        later.loadSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+
+        assertThat(later.size(), is(3));
+        assertThat(later.isRevoked(token(JWT.create().withJWTId("jwt_id_123"))), is(false));
+        assertThat(later.isRevoked(token(JWT.create().withJWTId("jwt_id_456"))), is(true));
+        assertThat(later.isRevoked(token(JWT.create().withJWTId("jwt_id_789"))), is(true));
+        assertThat(later.isRevoked(token(JWT.create().withSubject("1"))), is(true));
+    }
+
+    @Test
+    public void shouldThrowWhenLoadingInvalidSnapshot() {
+        TokenDenylist denylist = denylistAt(NOW);
+        IOException e = assertThrows(IOException.class,
+                () -> denylist.loadSnapshot(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7, 8})));
+        assertThat(e.getMessage(), is("The stream doesn't contain a token denylist snapshot."));
+    }
+
+    @Test
+    public void shouldThrowOnInvalidArguments() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new TokenDenylist(-1));
+        assertThat(e.getMessage(), is("The expected size can't be negative."));
+
+        TokenDenylist denylist = new TokenDenylist();
+        e = assertThrows(IllegalArgumentException.class, () -> denylist.revoke((DecodedJWT) null));
+        assertThat(e.getMessage(), is("The JWT cannot be null."));
+
+        e = assertThrows(IllegalArgumentException.class, () -> denylist.revoke((String) null, null));
+        assertThat(e.getMessage(), is("The JWT Id cannot be null."));
+    }
+
+    private static TokenDenylist denylistAt(Instant now) {
+        return new TokenDenylist(0, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static DecodedJWT token(com.auth0.jwt.JWTCreator.Builder builder) {
+        return JWT.decode(builder.sign(ALGORITHM));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}